@@ -0,0 +1,58 @@
+package com.ars.backend.dto;
+
+import com.ars.backend.enumeration.Level;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Jackson serialisation of a page of students, the body of every list endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StudentPageSerializationBenchmark {
+
+    private static final Level[] LEVELS = Level.values();
+
+    @Param({"10", "100"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private Page<StudentResponse> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder().build();
+        List<StudentResponse> content = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> new StudentResponse(id, "student" + id, LEVELS[(int) (id % LEVELS.length)], 0L))
+                .toList();
+        page = new PageImpl<>(content, PageRequest.of(0, size, Sort.by("id")), 10_000);
+    }
+
+    @Benchmark
+    public byte[] writePage() {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,48 @@
+package com.ars.backend.mapper;
+
+import com.ars.backend.dto.StudentRequest;
+import com.ars.backend.dto.StudentResponse;
+import com.ars.backend.entity.Student;
+import com.ars.backend.enumeration.Level;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StudentMapperBenchmark {
+
+    private StudentMapper mapper;
+    private Student student;
+    private StudentRequest request;
+
+    @Setup
+    public void setUp() {
+        mapper = new StudentMapper();
+        student = Student.builder().id(42L).username("student42").level(Level.MASTER).build();
+        request = new StudentRequest(Level.MASTER, "student42");
+    }
+
+    @Benchmark
+    public StudentResponse toResponse() {
+        return mapper.toResponse(student);
+    }
+
+    @Benchmark
+    public Student toEntity() {
+        return mapper.toEntity(request);
+    }
+}
@@ -0,0 +1,100 @@
+package com.ars.backend.security;
+
+import com.ars.backend.entity.Admin;
+import com.ars.backend.repository.AdminRepository;
+import com.ars.backend.service.impl.AdminDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating one request with a token that is already in the verified-token cache,
+ * which is the steady state for a logged-in admin. The admin repository is an in-memory stub,
+ * so the numbers cover the filter's own CPU and allocation, not database latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"true", "false"})
+    public boolean claimsPrincipal;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = JwtTokenProviderBenchmark.properties();
+        properties.setClaimsPrincipal(claimsPrincipal);
+
+        Admin admin = Admin.builder().id(1L).username("admin").password("secret").build();
+        AdminRepository adminRepository = adminRepository(admin);
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(properties);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        filter = new JwtAuthenticationFilter(
+                new VerifiedTokenCache(tokenProvider, properties, meterRegistry),
+                new AdminDetailsService(adminRepository),
+                new AdminExistenceCache(adminRepository, properties),
+                properties,
+                meterRegistry
+        );
+
+        request = new MockHttpServletRequest("GET", "/api/students");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + tokenProvider.generateToken(admin));
+        response = new MockHttpServletResponse();
+        chain = (req, res) -> { };
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Authentication doFilterInternal() throws ServletException, IOException {
+        filter.doFilterInternal(request, response, chain);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    private static AdminRepository adminRepository(Admin admin) {
+        return (AdminRepository) Proxy.newProxyInstance(
+                AdminRepository.class.getClassLoader(),
+                new Class<?>[]{AdminRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByUsername" -> Optional.of(admin).filter(a -> a.getUsername().equals(args[0]));
+                    case "existsByUsername" -> admin.getUsername().equals(args[0]);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+}
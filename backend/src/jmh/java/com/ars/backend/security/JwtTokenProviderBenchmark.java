@@ -0,0 +1,55 @@
+package com.ars.backend.security;
+
+import com.ars.backend.entity.Admin;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    static final String SECRET = "Q+QWv1y4J0dOEsdmDBmYFNxE15ZZW0kkfqJC+g7klDE=";
+
+    private JwtTokenProvider tokenProvider;
+    private Admin admin;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(properties());
+        admin = Admin.builder().id(1L).username("admin").password("secret").build();
+        token = tokenProvider.generateToken(admin);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(admin);
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return tokenProvider.parseClaims(token);
+    }
+
+    static JwtProperties properties() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpiration(3_600_000);
+        return properties;
+    }
+}
@@ -0,0 +1,91 @@
+package com.ars.backend.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free ring buffer for many producers and one consumer.
+ * <p>
+ * Each slot carries a sequence number: a producer claims the next position with one CAS on the
+ * tail, writes the element and publishes it by advancing the slot's sequence; the consumer takes
+ * published slots in order and hands them back by advancing the sequence one lap. A full buffer
+ * makes {@link #offer} fail instead of blocking, so callers decide how to apply backpressure.
+ */
+final class MpscRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    // Written by the consumer only; atomic so that size() can read it from other threads
+    private final AtomicLong head = new AtomicLong();
+
+    MpscRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two, got " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Appends the element, or returns false without waiting if the buffer is full.
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long lag = sequences.get(index) - position;
+            if (lag == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.setPlain(index, element);
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (lag < 0) {
+                // The slot still holds the element from one lap ago
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Moves up to {@code max} published elements into {@code sink}, oldest first. Consumer thread only.
+     */
+    int drainTo(List<? super E> sink, int max) {
+        long position = head.getPlain();
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (position & mask);
+            if (sequences.getAcquire(index) != position + 1) {
+                break;
+            }
+            sink.add(slots.getPlain(index));
+            slots.setPlain(index, null);
+            sequences.setRelease(index, position + capacity);
+            position++;
+            drained++;
+        }
+        head.setRelease(position);
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head.getAcquire());
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
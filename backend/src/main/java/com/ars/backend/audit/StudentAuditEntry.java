@@ -0,0 +1,34 @@
+package com.ars.backend.audit;
+
+import com.ars.backend.enumeration.Level;
+import com.ars.backend.event.StudentChangedEvent;
+
+import java.time.Instant;
+
+/**
+ * One row of student_tbl history: who changed which student, when, and to what.
+ * {@code username} and {@code level} are null for deletes; {@code previousLevel} follows
+ * {@link StudentChangedEvent}.
+ */
+public record StudentAuditEntry(
+        Instant occurredAt,
+        String actor,
+        StudentChangedEvent.Type action,
+        Long studentId,
+        String username,
+        Level level,
+        Level previousLevel
+) {
+
+    public static StudentAuditEntry of(StudentChangedEvent event, String actor, Instant occurredAt) {
+        return new StudentAuditEntry(
+                occurredAt,
+                actor,
+                event.type(),
+                event.studentId(),
+                event.student() != null ? event.student().username() : null,
+                event.student() != null ? event.student().level() : null,
+                event.previousLevel()
+        );
+    }
+}
@@ -0,0 +1,192 @@
+package com.ars.backend.audit;
+
+import com.ars.backend.config.StudentAuditProperties;
+import com.ars.backend.event.StudentChangedEvent;
+import com.ars.backend.repository.StudentAuditRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Records who created, updated or deleted which student without writing inside the mutating
+ * transaction.
+ * <p>
+ * After commit, each change becomes a {@link StudentAuditEntry} appended to a lock-free
+ * {@link MpscRingBuffer}; that is all the write path pays. A single writer thread drains the
+ * buffer into student_audit_tbl in JDBC batches, as soon as a batch is full or every
+ * {@code students.audit.flush-interval}. When the buffer is full, writers wait up to
+ * {@code students.audit.offer-timeout} for room and then drop the entry, counted in
+ * {@code students.audit.dropped{reason=buffer-full}}. On shutdown the writer stops after the web
+ * server and flushes what is left.
+ */
+@Slf4j
+@Component
+public class StudentAuditLog implements SmartLifecycle {
+
+    static final String SYSTEM_ACTOR = "system";
+
+    private final StudentAuditRepository auditRepository;
+    private final StudentAuditProperties properties;
+    private final MpscRingBuffer<StudentAuditEntry> buffer;
+    private final Counter written;
+    private final Counter droppedBufferFull;
+    private final Counter droppedWriteFailed;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private volatile Thread writer;
+
+    public StudentAuditLog(StudentAuditRepository auditRepository,
+                           StudentAuditProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.auditRepository = auditRepository;
+        this.properties = properties;
+        this.buffer = new MpscRingBuffer<>(properties.getBufferCapacity());
+        this.written = Counter.builder("students.audit.written")
+                .description("Audit entries written to student_audit_tbl")
+                .register(meterRegistry);
+        this.droppedBufferFull = droppedCounter(meterRegistry, "buffer-full");
+        this.droppedWriteFailed = droppedCounter(meterRegistry, "write-failed");
+        this.flushTimer = Timer.builder("students.audit.flush")
+                .description("Time to write one batch of audit entries")
+                .register(meterRegistry);
+        Gauge.builder("students.audit.buffer.size", buffer, MpscRingBuffer::size)
+                .description("Audit entries waiting to be written")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        record(StudentAuditEntry.of(event, currentActor(), Instant.now()));
+    }
+
+    void record(StudentAuditEntry entry) {
+        if (buffer.offer(entry)) {
+            if (buffer.size() >= properties.getBatchSize()) {
+                wakeWriter();
+            }
+            return;
+        }
+
+        // Backpressure: give the writer a chance to make room before giving up on the entry
+        long deadline = System.nanoTime() + properties.getOfferTimeout().toNanos();
+        do {
+            wakeWriter();
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+            if (buffer.offer(entry)) {
+                return;
+            }
+        } while (System.nanoTime() < deadline);
+        droppedBufferFull.increment();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = Thread.ofPlatform()
+                .name("student-audit-writer")
+                .daemon(true)
+                .start(this::writeLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writer;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(properties.getShutdownTimeout());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stopped after the web server (DEFAULT_PHASE - 1024/-2048), so late requests are still recorded,
+    // and before the DataSource is closed
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    int pending() {
+        return buffer.size();
+    }
+
+    private void writeLoop() {
+        List<StudentAuditEntry> batch = new ArrayList<>(properties.getBatchSize());
+        long flushIntervalNanos = properties.getFlushInterval().toNanos();
+        while (running) {
+            if (buffer.size() < properties.getBatchSize()) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            flush(batch);
+        }
+        // Shutting down: whatever is still buffered
+        flush(batch);
+    }
+
+    private void flush(List<StudentAuditEntry> batch) {
+        while (buffer.drainTo(batch, properties.getBatchSize()) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<StudentAuditEntry> batch) {
+        for (int attempt = 1; attempt <= properties.getWriteAttempts(); attempt++) {
+            try {
+                flushTimer.record(() -> auditRepository.insertAll(batch));
+                written.increment(batch.size());
+                return;
+            } catch (RuntimeException ex) {
+                if (attempt == properties.getWriteAttempts()) {
+                    log.warn("Dropping {} student audit entries after {} failed attempts", batch.size(), attempt, ex);
+                } else {
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100L * attempt));
+                }
+            }
+        }
+        droppedWriteFailed.increment(batch.size());
+    }
+
+    private void wakeWriter() {
+        Thread thread = writer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : SYSTEM_ACTOR;
+    }
+
+    private static Counter droppedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("students.audit.dropped")
+                .description("Audit entries lost because the buffer stayed full or the batch could not be written")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,58 @@
+package com.ars.backend.cache;
+
+import com.ars.backend.config.StudentCacheProperties;
+import com.ars.backend.dto.StudentResponse;
+import com.ars.backend.event.StudentChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Function;
+
+/**
+ * Read-through cache of students by id, bounded by size and TTL.
+ * <p>
+ * Committed updates replace an entry only if it is cached, so bulk writes do not flood the
+ * cache with rows nobody reads; deletes evict it. A load racing with an update cannot leave the
+ * old row behind: Caffeine serialises the replace behind the in-flight load of the same key.
+ * Hits, misses and evictions are published as {@code cache.*} metrics tagged {@code cache=students}.
+ */
+@Component
+public class StudentCache {
+
+    private final Cache<Long, StudentResponse> cache;
+
+    public StudentCache(StudentCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "students");
+    }
+
+    /**
+     * Returns the cached student or loads it; a loader exception is propagated and nothing is cached.
+     */
+    public StudentResponse get(Long id, Function<Long, StudentResponse> loader) {
+        return cache.get(id, loader);
+    }
+
+    @TransactionalEventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> { }
+            // Listeners of concurrent commits may run out of order; never go back to an older version
+            case UPDATED -> cache.asMap().computeIfPresent(event.studentId(), (id, cached) ->
+                    cached.version() > event.student().version() ? cached : event.student());
+            case DELETED -> cache.invalidate(event.studentId());
+        }
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,26 @@
+package com.ars.backend.cache;
+
+import com.ars.backend.repository.StudentChangeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Validator of every list page: while the change log's fingerprint has not moved, no page can
+ * have changed. The fingerprint is read from the database, so every instance behind a load
+ * balancer hands out the same tag for the same data, and writes made directly in the database
+ * change it too.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudentGeneration {
+
+    private final StudentChangeRepository studentChangeRepository;
+
+    /**
+     * Weak ETag for list responses. Read it before running the query, so a tag is never newer
+     * than the rows it is sent with.
+     */
+    public String eTag() {
+        return "W/\"" + studentChangeRepository.fingerprint() + "\"";
+    }
+}
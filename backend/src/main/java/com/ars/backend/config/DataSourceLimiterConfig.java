@@ -0,0 +1,55 @@
+package com.ars.backend.config;
+
+import com.ars.backend.datasource.ConcurrencyLimitedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource in a {@link ConcurrencyLimitedDataSource} when
+ * {@code datasource.limiter.enabled} is set, which it is by default in virtual-thread mode.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.limiter", name = "enabled", havingValue = "true")
+public class DataSourceLimiterConfig {
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(
+            ObjectProvider<DataSourceLimiterProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+                DataSourceLimiterProperties limiter = properties.getObject();
+                int permits = limiter.getMaxConcurrent() > 0
+                        ? limiter.getMaxConcurrent()
+                        : dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 10;
+
+                return new ConcurrencyLimitedDataSource(dataSource, permits, limiter.getAcquireTimeout());
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder dataSourceLimiterMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConcurrencyLimitedDataSource limited) {
+                Gauge.builder("datasource.limiter.available", limited, ConcurrencyLimitedDataSource::availablePermits)
+                        .description("Free connection permits")
+                        .register(registry);
+                Gauge.builder("datasource.limiter.waiting", limited, ConcurrencyLimitedDataSource::queueLength)
+                        .description("Threads waiting for a connection permit")
+                        .register(registry);
+            }
+        };
+    }
+}
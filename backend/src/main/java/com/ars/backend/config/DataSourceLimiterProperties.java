@@ -0,0 +1,23 @@
+package com.ars.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datasource.limiter")
+public class DataSourceLimiterProperties {
+    /** Bound the number of threads holding or waiting inside the connection pool */
+    private boolean enabled;
+
+    /** Concurrent connection holders allowed; 0 uses the pool's maximum size */
+    private int maxConcurrent;
+
+    /** How long a thread waits for a permit before the request fails */
+    private Duration acquireTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,16 @@
+package com.ars.backend.config;
+
+import com.ars.backend.metrics.RepositoryMetricsPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public static RepositoryMetricsPostProcessor repositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RepositoryMetricsPostProcessor(meterRegistry);
+    }
+}
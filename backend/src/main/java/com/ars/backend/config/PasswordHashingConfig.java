@@ -0,0 +1,52 @@
+package com.ars.backend.config;
+
+import com.ars.backend.security.AuthProperties;
+import com.ars.backend.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt runs on its own fixed pool with a bounded queue, sized separately from the request
+ * threads, so login and register spikes cannot take the CPU the student endpoints need. The pool
+ * is owned by the encoder rather than exposed as an Executor bean, so it is never picked up as
+ * the application's task executor.
+ */
+@Configuration
+public class PasswordHashingConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(AuthProperties properties) {
+        int threads = properties.getHashingThreads() > 0
+                ? properties.getHashingThreads()
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getHashingQueueCapacity()),
+                Thread.ofPlatform().name("password-hashing-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), executor);
+    }
+
+    @Bean
+    public MeterBinder passwordHashingMetrics(PasswordEncoder passwordEncoder) {
+        return registry -> {
+            if (passwordEncoder instanceof BoundedPasswordEncoder bounded) {
+                // executor.queued, executor.active, executor.pool.size, ... tagged name=password-hashing
+                new ExecutorServiceMetrics(bounded.getExecutor(), "password-hashing", List.of()).bindTo(registry);
+            }
+        };
+    }
+}
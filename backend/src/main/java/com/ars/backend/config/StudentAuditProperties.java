@@ -0,0 +1,32 @@
+package com.ars.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "students.audit")
+public class StudentAuditProperties {
+    /** Audit entries buffered in memory between flushes; must be a power of two */
+    private int bufferCapacity = 8192;
+
+    /** Maximum entries written per JDBC batch */
+    private int batchSize = 500;
+
+    /** How long the writer waits for a batch to fill before flushing what it has */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /** How long a write waits for room in a full buffer before its entry is dropped */
+    private Duration offerTimeout = Duration.ofMillis(50);
+
+    /** Attempts per batch before a failing batch is dropped */
+    private int writeAttempts = 3;
+
+    /** How long shutdown waits for buffered entries to be written */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,20 @@
+package com.ars.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "students.cache")
+public class StudentCacheProperties {
+    /** Maximum number of students kept in the by-id cache */
+    private long maximumSize = 10_000;
+
+    /** How long a cached student is served before it is reloaded; bounds staleness after out-of-band writes */
+    private Duration ttl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,15 @@
+package com.ars.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "students.export")
+public class StudentExportProperties {
+    /** Rows fetched from the database cursor per round trip */
+    private int fetchSize = 1_000;
+}
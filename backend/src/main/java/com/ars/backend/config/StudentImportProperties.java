@@ -0,0 +1,15 @@
+package com.ars.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "students.import")
+public class StudentImportProperties {
+    /** Rows validated, checked for duplicates and inserted per transaction */
+    private int chunkSize = 1_000;
+}
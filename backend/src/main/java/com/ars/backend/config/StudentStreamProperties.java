@@ -0,0 +1,26 @@
+package com.ars.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "students.stream")
+public class StudentStreamProperties {
+    /** Events queued per subscriber; a subscriber that falls this far behind is disconnected */
+    private int bufferSize = 256;
+
+    /** Interval of the comment lines that keep idle connections open through proxies */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /** How long a stream stays open before the client has to reconnect */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /** Concurrent subscribers accepted by this instance */
+    private int maximumSubscribers = 10_000;
+}
@@ -0,0 +1,23 @@
+package com.ars.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "students.sync")
+public class StudentSyncProperties {
+    /** Largest page of changes a client can ask for */
+    private int maximumPageSize = 1000;
+
+    /** How long deletions are kept as tombstones; older sync tokens have to start over */
+    private Duration tombstoneRetention = Duration.ofDays(30);
+
+    /** How often tombstones past the retention are purged */
+    private Duration purgeInterval = Duration.ofHours(1);
+}
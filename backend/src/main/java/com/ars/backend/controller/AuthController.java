@@ -2,13 +2,18 @@ package com.ars.backend.controller;
 
 import com.ars.backend.dto.AuthRequest;
 import com.ars.backend.dto.AuthResponse;
+import com.ars.backend.exception.BadRequestException;
+import com.ars.backend.security.AuthThrottle;
 import com.ars.backend.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -18,17 +23,31 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthService authService;
+    private final AuthThrottle authThrottle;
 
+    // Throttled before any hashing; with server.forward-headers-strategy=native, getRemoteAddr is the client
+    // address from X-Forwarded-For when the request came through a trusted proxy
     @PostMapping("/register")
-    public ResponseEntity<AuthResponse> register(@Valid @RequestBody AuthRequest request) {
+    public ResponseEntity<AuthResponse> register(@Valid @RequestBody AuthRequest request, HttpServletRequest httpRequest) {
+        authThrottle.acquire(httpRequest.getRemoteAddr(), request.username());
         AuthResponse response = authService.register(request);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody AuthRequest request) {
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody AuthRequest request, HttpServletRequest httpRequest) {
+        authThrottle.acquire(httpRequest.getRemoteAddr(), request.username());
         AuthResponse response = authService.login(request);
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            throw new BadRequestException("Expected a bearer token");
+        }
+        authService.logout(authorization.substring(7));
+        return ResponseEntity.noContent().build();
+    }
 }
 
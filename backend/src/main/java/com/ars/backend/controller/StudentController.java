@@ -1,76 +1,252 @@
 package com.ars.backend.controller;
 
+import com.ars.backend.cache.StudentGeneration;
+import com.ars.backend.dto.CursorPage;
+import com.ars.backend.dto.StudentBatchDeleteRequest;
+import com.ars.backend.dto.StudentBatchResult;
+import com.ars.backend.dto.StudentBatchUpdateRequest;
+import com.ars.backend.dto.StudentChangesResponse;
+import com.ars.backend.dto.StudentFields;
+import com.ars.backend.dto.StudentImportResult;
 import com.ars.backend.dto.StudentRequest;
 import com.ars.backend.dto.StudentResponse;
+import com.ars.backend.dto.StudentStatisticsResponse;
+import com.ars.backend.dto.StudentUpsertResult;
+import com.ars.backend.enumeration.DataFormat;
 import com.ars.backend.enumeration.Level;
+import com.ars.backend.exception.BadRequestException;
+import com.ars.backend.exception.TooManyRequestsException;
+import com.ars.backend.security.JwtAuthenticationFilter;
+import com.ars.backend.service.StudentExportService;
+import com.ars.backend.service.StudentImportService;
 import com.ars.backend.service.StudentService;
+import com.ars.backend.service.StudentSyncService;
+import com.ars.backend.stream.StudentChangeStream;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/students")
 @RequiredArgsConstructor
 public class StudentController {
 
+    private static final Set<String> SORT_COLUMNS = Set.of("id", "username", "level");
+
     private final StudentService studentService;
+    private final StudentImportService studentImportService;
+    private final StudentExportService studentExportService;
+    private final StudentSyncService studentSyncService;
+    private final StudentGeneration studentGeneration;
+    private final StudentChangeStream studentChangeStream;
 
     /**
      * Get all students with pagination
      * GET /api/students?page=0&size=10&sort=id,desc
+     * estimateTotal=true reports totalElements from planner statistics instead of a count query
+     * fields=id,username returns only those properties of each student (all list endpoints)
      */
     @GetMapping
-    public ResponseEntity<Page<StudentResponse>> getAllStudents(
+    public ResponseEntity<Page<?>> getAllStudents(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
-            @RequestParam(defaultValue = "ASC") String sortDirection) {
+            @RequestParam(defaultValue = "ASC") String sortDirection,
+            @RequestParam(defaultValue = "false") boolean estimateTotal,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+
+        Pageable pageable = pageable(page, size, sortBy, sortDirection);
+        StudentFields selected = StudentFields.parse(fields);
+        return ifModified(webRequest, () -> sparse(
+                estimateTotal
+                        ? studentService.getAllStudentsWithEstimatedTotal(pageable)
+                        : studentService.getAllStudents(pageable),
+                selected));
+    }
+
+    /**
+     * Get all students without computing a total
+     * GET /api/students/slice?page=0&size=10
+     */
+    @GetMapping("/slice")
+    public ResponseEntity<Slice<?>> getAllStudentsSlice(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "ASC") String sortDirection,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+
+        Pageable pageable = pageable(page, size, sortBy, sortDirection);
+        StudentFields selected = StudentFields.parse(fields);
+        return ifModified(webRequest, () -> sparse(studentService.getAllStudentsSlice(pageable), selected));
+    }
+
+    /**
+     * Get all students with cursor (keyset) pagination
+     * GET /api/students/cursor?size=10&sortBy=id&sortDirection=ASC&after={nextCursor}
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<?>> getAllStudentsByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "ASC") String sortDirection,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
 
         Sort.Direction direction = sortDirection.equalsIgnoreCase("DESC")
                 ? Sort.Direction.DESC
                 : Sort.Direction.ASC;
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-        Page<StudentResponse> students = studentService.getAllStudents(pageable);
-        return ResponseEntity.ok(students);
+        StudentFields selected = StudentFields.parse(fields);
+        return ifModified(webRequest, () -> sparse(studentService.getStudentsAfter(after, size, sortBy, direction), selected));
+    }
+
+    /**
+     * Get the total and per-level student counts, served from in-memory counters
+     * GET /api/students/statistics
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<StudentStatisticsResponse> getStatistics() {
+        StudentStatisticsResponse statistics = studentService.getStatistics();
+        return ResponseEntity.ok(statistics);
+    }
+
+    /**
+     * Get the students changed since a sync token, oldest change first
+     * GET /api/students/changes?since={nextToken}&size=500
+     * Without since, pages through every student; keep requesting with nextToken while hasMore.
+     * Deletions come back as DELETED entries; 410 means the token outlived the retained deletions
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<StudentChangesResponse> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int size) {
+        StudentChangesResponse changes = studentSyncService.getChangesSince(since, size);
+        return ResponseEntity.ok(changes);
+    }
+
+    /**
+     * Stream committed creates, updates and deletes as Server-Sent Events, optionally only for some levels
+     * GET /api/students/stream?level=MASTER&level=DOCTORATE
+     * Events are named created/updated/deleted; a subscriber that falls behind is disconnected and should reload
+     * The stream is closed once the token it was opened with expires or is revoked
+     * EventSource cannot send an Authorization header, so the token may also be passed as ?access_token=
+     * 429 with Retry-After and no body when too many streams are open
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(@RequestParam(name = "level", required = false) Set<Level> levels,
+                                                    @RequestAttribute(JwtAuthenticationFilter.CLAIMS_ATTRIBUTE) Claims claims) {
+        try {
+            return ResponseEntity.ok(studentChangeStream.subscribe(
+                    levels != null ? levels : Set.of(),
+                    claims.getId(),
+                    claims.getExpiration().toInstant()
+            ));
+        } catch (TooManyRequestsException ex) {
+            // An ErrorResponse body cannot be written as text/event-stream, so the rejection carries none
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                    .build();
+        }
     }
 
     /**
      * Get student by ID
      * GET /api/students/{id}
+     * The ETag is the student's version; If-None-Match with it returns 304
      */
     @GetMapping("/{id}")
     public ResponseEntity<StudentResponse> getStudentById(@PathVariable Long id) {
+        // A matching If-None-Match is answered with 304 by the framework before the body is written
         StudentResponse student = studentService.getStudentById(id);
-        return ResponseEntity.ok(student);
+        return ResponseEntity.ok().eTag(eTag(student)).body(student);
     }
 
     /**
      * Create a new student
      * POST /api/students
+     * upsert=true updates the level of an existing student with the same username instead of failing:
+     * 201 when the student was created, 200 when it was updated
      */
     @PostMapping
-    public ResponseEntity<StudentResponse> createStudent(@Valid @RequestBody StudentRequest request) {
+    public ResponseEntity<StudentResponse> createStudent(
+            @Valid @RequestBody StudentRequest request,
+            @RequestParam(defaultValue = "false") boolean upsert) {
+        if (upsert) {
+            StudentUpsertResult result = studentService.upsertStudent(request);
+            return new ResponseEntity<>(result.student(), result.created() ? HttpStatus.CREATED : HttpStatus.OK);
+        }
         StudentResponse student = studentService.createStudent(request);
         return new ResponseEntity<>(student, HttpStatus.CREATED);
     }
 
+    /**
+     * Bulk import students from a streamed CSV (username,level) or NDJSON body
+     * POST /api/students/import
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<StudentImportResult> importStudents(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request) throws IOException {
+        DataFormat format = DataFormat.fromContentType(contentType);
+        StudentImportResult result = studentImportService.importStudents(request.getInputStream(), format);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Stream the roster as CSV or NDJSON, optionally filtered by level
+     * GET /api/students/export?format=NDJSON&level=MASTER
+     */
+    @GetMapping("/export")
+    public void exportStudents(
+            @RequestParam(defaultValue = "CSV") DataFormat format,
+            @RequestParam(required = false) Level level,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(format.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("students." + format.name().toLowerCase())
+                .build()
+                .toString());
+        studentExportService.exportStudents(level, format, response.getOutputStream());
+    }
+
     /**
      * Update an existing student
      * PUT /api/students/{id}
+     * If-Match: "{version}" only applies the update while the student is still at that version (412 otherwise)
      */
     @PutMapping("/{id}")
     public ResponseEntity<StudentResponse> updateStudent(
             @PathVariable Long id,
-            @Valid @RequestBody StudentRequest request) {
-        StudentResponse student = studentService.updateStudent(id, request);
-        return ResponseEntity.ok(student);
+            @Valid @RequestBody StudentRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        StudentResponse student = studentService.updateStudent(id, request, expectedVersions(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(student)).body(student);
     }
 
     /**
@@ -83,46 +259,197 @@ public class StudentController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Set the level of many students in one transaction, selected by ids or by a level/search filter
+     * POST /api/students/batch/update {"ids": [1, 2, 3], "level": "MASTER"}
+     */
+    @PostMapping("/batch/update")
+    public ResponseEntity<StudentBatchResult> updateStudentsLevel(@Valid @RequestBody StudentBatchUpdateRequest request) {
+        StudentBatchResult result = studentService.updateStudentsLevel(request);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Delete many students in one transaction, selected by ids or by a level/search filter
+     * POST /api/students/batch/delete {"filter": {"level": "BACHELOR", "search": "john"}}
+     */
+    @PostMapping("/batch/delete")
+    public ResponseEntity<StudentBatchResult> deleteStudents(@Valid @RequestBody StudentBatchDeleteRequest request) {
+        StudentBatchResult result = studentService.deleteStudents(request);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Search students by username or ID
      * GET /api/students/search?query=john&page=0&size=10
      */
     @GetMapping("/search")
-    public ResponseEntity<Page<StudentResponse>> searchStudents(
+    public ResponseEntity<Page<?>> searchStudents(
             @RequestParam String query,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
-            @RequestParam(defaultValue = "ASC") String sortDirection) {
+            @RequestParam(defaultValue = "ASC") String sortDirection,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
 
-        Sort.Direction direction = sortDirection.equalsIgnoreCase("DESC")
-                ? Sort.Direction.DESC
-                : Sort.Direction.ASC;
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+        Pageable pageable = pageable(page, size, sortBy, sortDirection);
+        StudentFields selected = StudentFields.parse(fields);
+        return ifModified(webRequest, () -> sparse(studentService.searchStudents(query, pageable), selected));
+    }
 
-        Page<StudentResponse> students = studentService.searchStudents(query, pageable);
-        return ResponseEntity.ok(students);
+    /**
+     * Search students by username or ID without computing a total
+     * GET /api/students/search/slice?query=john&page=0&size=10
+     */
+    @GetMapping("/search/slice")
+    public ResponseEntity<Slice<?>> searchStudentsSlice(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "ASC") String sortDirection,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+
+        Pageable pageable = pageable(page, size, sortBy, sortDirection);
+        StudentFields selected = StudentFields.parse(fields);
+        return ifModified(webRequest, () -> sparse(studentService.searchStudentsSlice(query, pageable), selected));
     }
 
     /**
      * Filter students by level
      * GET /api/students/level/BACHELOR?page=0&size=10
+     * estimateTotal=true reports totalElements from planner statistics instead of a count query
      */
     @GetMapping("/level/{level}")
-    public ResponseEntity<Page<StudentResponse>> getStudentsByLevel(
+    public ResponseEntity<Page<?>> getStudentsByLevel(
             @PathVariable Level level,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
-            @RequestParam(defaultValue = "ASC") String sortDirection) {
+            @RequestParam(defaultValue = "ASC") String sortDirection,
+            @RequestParam(defaultValue = "false") boolean estimateTotal,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+
+        Pageable pageable = pageable(page, size, sortBy, sortDirection);
+        StudentFields selected = StudentFields.parse(fields);
+        return ifModified(webRequest, () -> sparse(
+                estimateTotal
+                        ? studentService.getStudentsByLevelWithEstimatedTotal(level, pageable)
+                        : studentService.getStudentsByLevel(level, pageable),
+                selected));
+    }
+
+    /**
+     * Filter students by level without computing a total
+     * GET /api/students/level/BACHELOR/slice?page=0&size=10
+     */
+    @GetMapping("/level/{level}/slice")
+    public ResponseEntity<Slice<?>> getStudentsByLevelSlice(
+            @PathVariable Level level,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "ASC") String sortDirection,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+
+        Pageable pageable = pageable(page, size, sortBy, sortDirection);
+        StudentFields selected = StudentFields.parse(fields);
+        return ifModified(webRequest, () -> sparse(studentService.getStudentsByLevelSlice(level, pageable), selected));
+    }
+
+    /**
+     * Filter students by level with cursor (keyset) pagination
+     * GET /api/students/level/BACHELOR/cursor?size=10&after={nextCursor}
+     */
+    @GetMapping("/level/{level}/cursor")
+    public ResponseEntity<CursorPage<?>> getStudentsByLevelByCursor(
+            @PathVariable Level level,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "ASC") String sortDirection,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
 
         Sort.Direction direction = sortDirection.equalsIgnoreCase("DESC")
                 ? Sort.Direction.DESC
                 : Sort.Direction.ASC;
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-        Page<StudentResponse> students = studentService.getStudentsByLevel(level, pageable);
-        return ResponseEntity.ok(students);
+        StudentFields selected = StudentFields.parse(fields);
+        return ifModified(webRequest, () -> sparse(studentService.getStudentsByLevelAfter(level, after, size, sortBy, direction), selected));
     }
-}
 
+    /**
+     * Builds the page request, rejecting sort columns without an index behind them: id and username
+     * are unique, level is the leading column of the (level, id) index.
+     */
+    private static Pageable pageable(int page, int size, String sortBy, String sortDirection) {
+        if (!SORT_COLUMNS.contains(sortBy)) {
+            throw new BadRequestException("Sorting is supported by " + SORT_COLUMNS + " only");
+        }
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("DESC")
+                ? Sort.Direction.DESC
+                : Sort.Direction.ASC;
+        return PageRequest.of(page, size, Sort.by(direction, sortBy));
+    }
+
+    /**
+     * Answers a list request with 304 before running the query when the client's tag still
+     * matches the current change generation.
+     */
+    private <T> ResponseEntity<T> ifModified(WebRequest webRequest, Supplier<T> query) {
+        String eTag = studentGeneration.eTag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(query.get());
+    }
+
+    /**
+     * Applies a {@code fields=...} sparse fieldset to a list; supported by every list endpoint.
+     */
+    private static Page<?> sparse(Page<StudentResponse> page, StudentFields fields) {
+        return fields == null ? page : page.map(fields::select);
+    }
+
+    private static Slice<?> sparse(Slice<StudentResponse> slice, StudentFields fields) {
+        return fields == null ? slice : slice.map(fields::select);
+    }
+
+    private static CursorPage<?> sparse(CursorPage<StudentResponse> page, StudentFields fields) {
+        return fields == null ? page : page.map(fields::select);
+    }
+
+    private static String eTag(StudentResponse student) {
+        return "\"" + student.version() + "\"";
+    }
+
+    /**
+     * Versions accepted by an If-Match header, or null when there is no precondition. If-Match uses
+     * strong comparison, so weak and foreign tags never match.
+     */
+    private static List<Long> expectedVersions(String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+        List<ETag> tags = ETag.parse(ifMatch);
+        if (tags.stream().anyMatch(ETag::isWildcard)) {
+            return null;
+        }
+        List<Long> versions = new ArrayList<>(tags.size());
+        for (ETag tag : tags) {
+            if (!tag.weak()) {
+                try {
+                    versions.add(Long.parseLong(tag.tag()));
+                } catch (NumberFormatException ignored) {
+                    // Not a tag this API issued
+                }
+            }
+        }
+        return versions;
+    }
+}
@@ -0,0 +1,15 @@
+package com.ars.backend.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> converter) {
+        return new CursorPage<>(content.stream().<R>map(converter).toList(), size, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,8 @@
+package com.ars.backend.dto;
+
+import com.ars.backend.enumeration.Level;
+
+public record LevelCount(
+        Level level,
+        long count
+) {}
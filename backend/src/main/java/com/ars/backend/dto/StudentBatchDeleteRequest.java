@@ -0,0 +1,12 @@
+package com.ars.backend.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record StudentBatchDeleteRequest(
+        @Size(max = 1000, message = "At most 1000 ids per batch")
+        List<@NotNull Long> ids,
+        StudentFilter filter
+) {}
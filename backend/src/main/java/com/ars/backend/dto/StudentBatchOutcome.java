@@ -0,0 +1,12 @@
+package com.ars.backend.dto;
+
+public record StudentBatchOutcome(
+        Long id,
+        Status status
+) {
+    public enum Status {
+        UPDATED,
+        DELETED,
+        NOT_FOUND
+    }
+}
@@ -0,0 +1,9 @@
+package com.ars.backend.dto;
+
+import java.util.List;
+
+public record StudentBatchResult(
+        int affected,
+        int notFound,
+        List<StudentBatchOutcome> outcomes
+) {}
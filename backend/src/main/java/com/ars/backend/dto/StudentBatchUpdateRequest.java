@@ -0,0 +1,15 @@
+package com.ars.backend.dto;
+
+import com.ars.backend.enumeration.Level;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record StudentBatchUpdateRequest(
+        @Size(max = 1000, message = "At most 1000 ids per batch")
+        List<@NotNull Long> ids,
+        StudentFilter filter,
+        @NotNull(message = "Level is required")
+        Level level
+) {}
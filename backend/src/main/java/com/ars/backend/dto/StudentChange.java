@@ -0,0 +1,17 @@
+package com.ars.backend.dto;
+
+/**
+ * One entry of a delta sync: the current state of a created or updated student, or the id of a
+ * deleted one ({@code student} is null).
+ */
+public record StudentChange(
+        Type type,
+        Long id,
+        StudentResponse student
+) {
+
+    public enum Type {
+        UPSERTED,
+        DELETED
+    }
+}
@@ -0,0 +1,9 @@
+package com.ars.backend.dto;
+
+import java.util.List;
+
+public record StudentChangesResponse(
+        List<StudentChange> changes,
+        String nextToken,
+        boolean hasMore
+) {}
@@ -0,0 +1,44 @@
+package com.ars.backend.dto;
+
+import com.ars.backend.enumeration.StudentField;
+import com.ars.backend.exception.BadRequestException;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sparse fieldset requested as {@code fields=id,username}: each student in a list is written
+ * with only these properties, in the requested order.
+ */
+public record StudentFields(List<StudentField> fields) {
+
+    /**
+     * Parses the {@code fields} request parameter; null when it is absent or blank, meaning
+     * every property.
+     */
+    public static StudentFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<StudentField> selected = new LinkedHashSet<>();
+        for (String property : fields.split(",")) {
+            try {
+                selected.add(StudentField.fromProperty(property.trim()));
+            } catch (IllegalArgumentException ex) {
+                throw new BadRequestException(ex.getMessage());
+            }
+        }
+        return new StudentFields(List.copyOf(selected));
+    }
+
+    public Map<String, Object> select(StudentResponse student) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (StudentField field : fields) {
+            values.put(field.getProperty(), field.valueOf(student));
+        }
+        return values;
+    }
+}
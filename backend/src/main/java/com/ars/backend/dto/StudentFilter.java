@@ -0,0 +1,15 @@
+package com.ars.backend.dto;
+
+import com.ars.backend.enumeration.Level;
+
+/**
+ * Selects students by level and/or the same username-or-id match as the search endpoint.
+ */
+public record StudentFilter(
+        Level level,
+        String search
+) {
+    public boolean isEmpty() {
+        return level == null && (search == null || search.isBlank());
+    }
+}
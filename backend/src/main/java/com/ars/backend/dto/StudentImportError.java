@@ -0,0 +1,7 @@
+package com.ars.backend.dto;
+
+public record StudentImportError(
+        long line,
+        String username,
+        String message
+) {}
@@ -0,0 +1,10 @@
+package com.ars.backend.dto;
+
+import java.util.List;
+
+public record StudentImportResult(
+        long totalRows,
+        long imported,
+        long failed,
+        List<StudentImportError> errors
+) {}
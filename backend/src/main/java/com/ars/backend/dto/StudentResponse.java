@@ -5,5 +5,6 @@ import com.ars.backend.enumeration.Level;
 public record StudentResponse(
         Long id,
         String username,
-        Level level
+        Level level,
+        Long version
 ) {}
@@ -0,0 +1,12 @@
+package com.ars.backend.dto;
+
+import com.ars.backend.enumeration.Level;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record StudentStatisticsResponse(
+        long total,
+        Map<Level, Long> byLevel,
+        Instant reconciledAt
+) {}
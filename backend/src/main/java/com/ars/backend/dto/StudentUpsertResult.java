@@ -0,0 +1,6 @@
+package com.ars.backend.dto;
+
+public record StudentUpsertResult(
+        StudentResponse student,
+        boolean created
+) {}
@@ -3,6 +3,7 @@ package com.ars.backend.entity;
 import com.ars.backend.enumeration.Level;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import static jakarta.persistence.GenerationType.IDENTITY;
 
@@ -25,6 +26,12 @@ public class Student {
     @Column(nullable = false)
     private Level level;
 
+    // Bumped on every update, including the JDBC write paths; served as the student's ETag
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
 
 
 
@@ -0,0 +1,26 @@
+package com.ars.backend.enumeration;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+public enum DataFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String contentType;
+
+    DataFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static DataFormat fromContentType(String contentType) {
+        return Arrays.stream(values())
+                .filter(format -> contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith(format.contentType))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported content type: " + contentType));
+    }
+}
@@ -0,0 +1,36 @@
+package com.ars.backend.enumeration;
+
+import com.ars.backend.dto.StudentResponse;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+public enum StudentField {
+    ID("id", StudentResponse::id),
+    USERNAME("username", StudentResponse::username),
+    LEVEL("level", StudentResponse::level),
+    VERSION("version", StudentResponse::version);
+
+    private final String property;
+    private final Function<StudentResponse, Object> accessor;
+
+    StudentField(String property, Function<StudentResponse, Object> accessor) {
+        this.property = property;
+        this.accessor = accessor;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Object valueOf(StudentResponse student) {
+        return accessor.apply(student);
+    }
+
+    public static StudentField fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown student field: " + property));
+    }
+}
@@ -0,0 +1,35 @@
+package com.ars.backend.event;
+
+import com.ars.backend.dto.StudentResponse;
+import com.ars.backend.enumeration.Level;
+
+/**
+ * Published by the student service whenever a student is created, updated or deleted.
+ * Listeners react after the surrounding transaction commits. {@code previousLevel} is the
+ * level before an update or of the deleted student, and null on create.
+ */
+public record StudentChangedEvent(
+        Type type,
+        Long studentId,
+        StudentResponse student,
+        Level previousLevel
+) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static StudentChangedEvent created(StudentResponse student) {
+        return new StudentChangedEvent(Type.CREATED, student.id(), student, null);
+    }
+
+    public static StudentChangedEvent updated(StudentResponse student, Level previousLevel) {
+        return new StudentChangedEvent(Type.UPDATED, student.id(), student, previousLevel);
+    }
+
+    public static StudentChangedEvent deleted(Long studentId, Level level) {
+        return new StudentChangedEvent(Type.DELETED, studentId, null, level);
+    }
+}
@@ -0,0 +1,7 @@
+package com.ars.backend.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,23 @@
+package com.ars.backend.exception;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+
+public final class UniqueConstraints {
+
+    /** SQLSTATE reported by PostgreSQL for unique_violation */
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private UniqueConstraints() {
+    }
+
+    public static boolean isViolation(DataIntegrityViolationException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -19,13 +19,9 @@ public class StudentMapper {
         return new StudentResponse(
                 student.getId(),
                 student.getUsername(),
-                student.getLevel()
+                student.getLevel(),
+                student.getVersion()
         );
 
     }
-
-    public void updateEntity(Student student, StudentRequest request) {
-        student.setUsername(request.username());
-        student.setLevel(request.level());
-    }
 }
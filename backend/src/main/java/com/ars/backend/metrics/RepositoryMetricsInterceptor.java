@@ -0,0 +1,102 @@
+package com.ars.backend.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.Entity;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times every repository method call and records how many rows it returned or touched.
+ * <p>
+ * {@code repository.invocations} is tagged with repository, method and outcome (the exception
+ * class name on failure). {@code repository.rows} counts the elements of collections, slices and
+ * optionals, counts a returned entity as one row and sums JDBC batch update counts; results
+ * with no row meaning (counts, booleans, void) are not recorded.
+ */
+class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    static final String INVOCATIONS = "repository.invocations";
+    static final String ROWS = "repository.rows";
+
+    private final String repository;
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    RepositoryMetricsInterceptor(String repository, Supplier<MeterRegistry> meterRegistry) {
+        this.repository = repository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable ex) {
+            Timer.builder(INVOCATIONS)
+                    .tags("repository", repository, "method", method.getName(), "outcome", ex.getClass().getSimpleName())
+                    .register(meterRegistry.get())
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+
+        MethodMeters methodMeters = meters.computeIfAbsent(method, this::register);
+        methodMeters.timer().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        long rows = rows(result);
+        if (rows >= 0) {
+            methodMeters.rows().record(rows);
+        }
+        return result;
+    }
+
+    private MethodMeters register(Method method) {
+        MeterRegistry registry = meterRegistry.get();
+        return new MethodMeters(
+                Timer.builder(INVOCATIONS)
+                        .description("Repository method execution time")
+                        .tags("repository", repository, "method", method.getName(), "outcome", "success")
+                        .register(registry),
+                DistributionSummary.builder(ROWS)
+                        .description("Rows returned or affected by a repository method")
+                        .baseUnit("rows")
+                        .tags("repository", repository, "method", method.getName())
+                        .register(registry)
+        );
+    }
+
+    static long rows(Object result) {
+        return switch (result) {
+            case Collection<?> collection -> collection.size();
+            case Slice<?> slice -> slice.getNumberOfElements();
+            case Optional<?> optional -> optional.isPresent() ? 1 : 0;
+            case int[] counts -> {
+                long total = 0;
+                for (int count : counts) {
+                    total += Math.max(count, 0);
+                }
+                yield total;
+            }
+            case null -> -1;
+            default -> result.getClass().isAnnotationPresent(Entity.class) ? 1 : -1;
+        };
+    }
+
+    private record MethodMeters(Timer timer, DistributionSummary rows) {}
+}
@@ -0,0 +1,55 @@
+package com.ars.backend.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Adds {@link RepositoryMetricsInterceptor} to every repository: through the proxy post-processor
+ * hook for Spring Data repositories, and by proxying plain {@code @Repository} classes such as
+ * the JDBC repositories. The registry is resolved lazily because post-processors are created
+ * before the metrics infrastructure.
+ */
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public RepositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, information) -> proxyFactory.addAdvice(new RepositoryMetricsInterceptor(
+                            information.getRepositoryInterface().getSimpleName(), meterRegistry::getObject))));
+        }
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        if (bean instanceof org.springframework.data.repository.Repository<?, ?>
+                || AnnotationUtils.findAnnotation(targetClass, Repository.class) == null) {
+            return bean;
+        }
+
+        RepositoryMetricsInterceptor interceptor = new RepositoryMetricsInterceptor(targetClass.getSimpleName(), meterRegistry::getObject);
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(0, interceptor);
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(interceptor);
+        return proxyFactory.getProxy(targetClass.getClassLoader());
+    }
+}
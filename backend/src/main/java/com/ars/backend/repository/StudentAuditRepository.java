@@ -0,0 +1,43 @@
+package com.ars.backend.repository;
+
+import com.ars.backend.audit.StudentAuditEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Appends audit entries to student_audit_tbl. The table is insert-only; there is no update or delete.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudentAuditRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<StudentAuditEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                """
+                INSERT INTO student_audit_tbl (occurred_at, actor, action, student_id, username, level, previous_level)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """,
+                entries,
+                entries.size(),
+                (ps, entry) -> {
+                    ps.setTimestamp(1, Timestamp.from(entry.occurredAt()));
+                    ps.setString(2, entry.actor());
+                    ps.setString(3, entry.action().name());
+                    ps.setLong(4, entry.studentId());
+                    ps.setString(5, entry.username());
+                    ps.setObject(6, entry.level() != null ? entry.level().name() : null, Types.VARCHAR);
+                    ps.setObject(7, entry.previousLevel() != null ? entry.previousLevel().name() : null, Types.VARCHAR);
+                }
+        );
+    }
+}
@@ -0,0 +1,175 @@
+package com.ars.backend.repository;
+
+import com.ars.backend.dto.StudentChange;
+import com.ars.backend.dto.StudentResponse;
+import com.ars.backend.enumeration.Level;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Reads the change log kept by the V5 triggers: student_tbl rows stamped with the writing
+ * transaction ({@code change_xid}) and a change sequence, and student_tombstone_tbl for deletes.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudentChangeRepository {
+
+    private static final RowMapper<ChangeRow> CHANGE_ROW_MAPPER = (resultSet, rowNum) -> {
+        long id = resultSet.getLong("id");
+        StudentChange change = resultSet.getBoolean("deleted")
+                ? new StudentChange(StudentChange.Type.DELETED, id, null)
+                : new StudentChange(StudentChange.Type.UPSERTED, id, new StudentResponse(
+                        id,
+                        resultSet.getString("username"),
+                        Level.valueOf(resultSet.getString("level")),
+                        resultSet.getLong("version")
+                ));
+        return new ChangeRow(Long.parseLong(resultSet.getString("change_xid")), resultSet.getLong("change_seq"), change);
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Returns up to {@code limit} changes after the position, in (change_xid, change_seq) order.
+     * Only transactions older than every transaction still running are included: anything they
+     * have not committed yet will get a larger change_xid, so it cannot land behind the position
+     * a client moves to. Each branch is an index range scan on (change_xid, change_seq).
+     */
+    public List<ChangeRow> findChangesAfter(long changeXid, long changeSeq, int limit) {
+        String xid = Long.toString(changeXid);
+        return jdbcTemplate.query(
+                """
+                WITH settled AS (SELECT pg_snapshot_xmin(pg_current_snapshot()) AS xmin)
+                (SELECT change_xid, change_seq, id, username, level, version, FALSE AS deleted
+                   FROM student_tbl
+                  WHERE (change_xid, change_seq) > (CAST(? AS xid8), ?)
+                    AND change_xid < (SELECT xmin FROM settled)
+                  ORDER BY change_xid, change_seq
+                  LIMIT ?)
+                UNION ALL
+                (SELECT change_xid, change_seq, student_id, NULL, NULL, NULL, TRUE
+                   FROM student_tombstone_tbl
+                  WHERE (change_xid, change_seq) > (CAST(? AS xid8), ?)
+                    AND change_xid < (SELECT xmin FROM settled)
+                  ORDER BY change_xid, change_seq
+                  LIMIT ?)
+                ORDER BY change_xid, change_seq
+                LIMIT ?
+                """,
+                CHANGE_ROW_MAPPER,
+                xid, changeSeq, limit,
+                xid, changeSeq, limit,
+                limit
+        );
+    }
+
+    /**
+     * Position of the newest change that {@link #findChangesAfter} would already return, or
+     * (0, 0) when there is none. Everything up to it is visible to any snapshot taken afterwards.
+     */
+    public ChangePosition latestSettledPosition() {
+        List<ChangePosition> latest = jdbcTemplate.query(
+                """
+                WITH settled AS (SELECT pg_snapshot_xmin(pg_current_snapshot()) AS xmin)
+                SELECT change_xid, change_seq FROM (
+                    (SELECT change_xid, change_seq FROM student_tbl
+                      WHERE change_xid < (SELECT xmin FROM settled)
+                      ORDER BY change_xid DESC, change_seq DESC
+                      LIMIT 1)
+                    UNION ALL
+                    (SELECT change_xid, change_seq FROM student_tombstone_tbl
+                      WHERE change_xid < (SELECT xmin FROM settled)
+                      ORDER BY change_xid DESC, change_seq DESC
+                      LIMIT 1)
+                ) latest
+                ORDER BY change_xid DESC, change_seq DESC
+                LIMIT 1
+                """,
+                (resultSet, rowNum) -> new ChangePosition(
+                        Long.parseLong(resultSet.getString("change_xid")), resultSet.getLong("change_seq"))
+        );
+        return latest.isEmpty() ? new ChangePosition(0, 0) : latest.getFirst();
+    }
+
+    /**
+     * A value that changes whenever the set of visible students changes, on any instance and on
+     * any write path. It is read in one snapshot from the purge horizon, the newest settled
+     * change, and the count and sum of change_seq of the changes not settled yet. Every write
+     * either settles past the newest settled change or adds a change_seq larger than the one it
+     * replaces, so the value never comes back to an earlier state. Both change scans are index
+     * range scans on (change_xid, change_seq).
+     */
+    public String fingerprint() {
+        return jdbcTemplate.queryForObject(
+                """
+                WITH snapshot AS (SELECT pg_snapshot_xmin(pg_current_snapshot()) AS xmin),
+                settled AS (
+                    SELECT change_xid, change_seq FROM (
+                        (SELECT change_xid, change_seq FROM student_tbl
+                          WHERE change_xid < (SELECT xmin FROM snapshot)
+                          ORDER BY change_xid DESC, change_seq DESC
+                          LIMIT 1)
+                        UNION ALL
+                        (SELECT change_xid, change_seq FROM student_tombstone_tbl
+                          WHERE change_xid < (SELECT xmin FROM snapshot)
+                          ORDER BY change_xid DESC, change_seq DESC
+                          LIMIT 1)
+                    ) latest
+                    ORDER BY change_xid DESC, change_seq DESC
+                    LIMIT 1
+                ),
+                unsettled AS (
+                    SELECT change_seq FROM student_tbl WHERE change_xid >= (SELECT xmin FROM snapshot)
+                    UNION ALL
+                    SELECT change_seq FROM student_tombstone_tbl WHERE change_xid >= (SELECT xmin FROM snapshot)
+                )
+                SELECT concat_ws('-',
+                        (SELECT purged_xid FROM student_sync_horizon_tbl WHERE id = 1),
+                        coalesce((SELECT change_xid || '.' || change_seq FROM settled), '0'),
+                        (SELECT count(*) || '.' || coalesce(sum(change_seq), 0) FROM unsettled))
+                """,
+                String.class
+        );
+    }
+
+    /**
+     * Transaction id of the newest purged tombstone; positions before it may have missed a delete.
+     */
+    public long purgedHorizon() {
+        String xid = jdbcTemplate.queryForObject(
+                "SELECT purged_xid FROM student_sync_horizon_tbl WHERE id = 1",
+                String.class
+        );
+        return Long.parseLong(xid);
+    }
+
+    /**
+     * Deletes tombstones older than {@code before} and moves the horizon past them, in one statement.
+     */
+    public int purgeTombstones(Instant before) {
+        return jdbcTemplate.queryForObject(
+                """
+                WITH purged AS (
+                    DELETE FROM student_tombstone_tbl WHERE deleted_at < ? RETURNING change_xid
+                ), horizon AS (
+                    UPDATE student_sync_horizon_tbl
+                       SET purged_xid = GREATEST(purged_xid, (SELECT max(change_xid) FROM purged))
+                     WHERE id = 1 AND EXISTS (SELECT 1 FROM purged)
+                )
+                SELECT count(*) FROM purged
+                """,
+                Integer.class,
+                Timestamp.from(before)
+        );
+    }
+
+    public record ChangeRow(long changeXid, long changeSeq, StudentChange change) {}
+
+    public record ChangePosition(long changeXid, long changeSeq) {}
+}
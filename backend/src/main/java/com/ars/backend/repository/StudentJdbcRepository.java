@@ -0,0 +1,307 @@
+package com.ars.backend.repository;
+
+import com.ars.backend.dto.StudentFilter;
+import com.ars.backend.dto.StudentResponse;
+import com.ars.backend.entity.Student;
+import com.ars.backend.enumeration.Level;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Plain JDBC access to student_tbl for set-based work that Hibernate cannot batch
+ * (inserts into an identity column) or that must not touch the persistence context.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudentJdbcRepository {
+
+    private static final RowMapper<StudentResponse> STUDENT_ROW_MAPPER = (resultSet, rowNum) -> new StudentResponse(
+            resultSet.getLong("id"),
+            resultSet.getString("username"),
+            Level.valueOf(resultSet.getString("level")),
+            resultSet.getLong("version")
+    );
+
+    private static final RowMapper<UpdatedStudent> UPDATED_STUDENT_ROW_MAPPER = (resultSet, rowNum) -> new UpdatedStudent(
+            STUDENT_ROW_MAPPER.mapRow(resultSet, rowNum),
+            Level.valueOf(resultSet.getString("previous_level"))
+    );
+
+    // Each retry needs a concurrent insert of the same username to commit first, so this is never reached in practice
+    private static final int UPSERT_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Reserves a block of ids from the sequence backing the identity column in one round trip,
+     * so rows inserted with explicit ids never collide with ids Hibernate gets on save.
+     */
+    public List<Long> nextIds(int count) {
+        return jdbcTemplate.queryForList(
+                "SELECT nextval(pg_get_serial_sequence('student_tbl', 'id')) FROM generate_series(1, ?)",
+                Long.class,
+                count
+        );
+    }
+
+    /**
+     * Inserts the students as one JDBC batch. A row whose username already exists is skipped
+     * and reported with an update count of 0 instead of failing the whole batch.
+     */
+    public int[] insertAll(List<Student> students) {
+        if (students.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(
+                "INSERT INTO student_tbl (id, username, level, version) VALUES (?, ?, ?, ?) ON CONFLICT (username) DO NOTHING",
+                students,
+                students.size(),
+                (ps, student) -> {
+                    ps.setLong(1, student.getId());
+                    ps.setString(2, student.getUsername());
+                    ps.setString(3, student.getLevel().name());
+                    ps.setLong(4, student.getVersion());
+                }
+        )[0];
+    }
+
+    /**
+     * Inserts the student, or updates the level of the student that already has this username.
+     * The existing row is locked and read in the same statement that updates it, so an update
+     * always reports the level it replaced. When a concurrent transaction inserts the username
+     * between the lock and the insert, the insert is skipped and the statement returns nothing;
+     * it is then run again, and finds the committed row.
+     */
+    public UpsertedStudent upsert(Student student) {
+        for (int attempt = 1; attempt <= UPSERT_ATTEMPTS; attempt++) {
+            List<UpsertedStudent> rows = jdbcTemplate.query(
+                    """
+                    WITH previous AS (SELECT id, level FROM student_tbl WHERE username = ? FOR UPDATE),
+                    updated AS (
+                        UPDATE student_tbl s SET level = ?, version = s.version + 1
+                        FROM previous
+                        WHERE s.id = previous.id
+                        RETURNING s.id, s.username, s.level, s.version, previous.level AS previous_level
+                    ),
+                    inserted AS (
+                        INSERT INTO student_tbl (username, level)
+                        SELECT ?, ? WHERE NOT EXISTS (SELECT 1 FROM previous)
+                        ON CONFLICT (username) DO NOTHING
+                        RETURNING id, username, level, version, CAST(NULL AS varchar) AS previous_level
+                    )
+                    SELECT *, FALSE AS inserted FROM updated
+                    UNION ALL
+                    SELECT *, TRUE AS inserted FROM inserted
+                    """,
+                    (resultSet, rowNum) -> {
+                        String previousLevel = resultSet.getString("previous_level");
+                        return new UpsertedStudent(
+                                STUDENT_ROW_MAPPER.mapRow(resultSet, rowNum),
+                                resultSet.getBoolean("inserted"),
+                                previousLevel != null ? Level.valueOf(previousLevel) : null
+                        );
+                    },
+                    student.getUsername(),
+                    student.getLevel().name(),
+                    student.getUsername(),
+                    student.getLevel().name()
+            );
+            if (!rows.isEmpty()) {
+                return rows.getFirst();
+            }
+        }
+        throw new ConcurrencyFailureException(
+                "Student '" + student.getUsername() + "' was inserted and deleted concurrently " + UPSERT_ATTEMPTS + " times");
+    }
+
+    /**
+     * Updates one student in a single statement, or empty when no student has this id. With
+     * {@code expectedVersions} the row is only changed when its version is one of them; the
+     * locked CTE still reports the row's level and version when it was left untouched.
+     */
+    public Optional<VersionedUpdate> update(Long id, String username, Level level, Collection<Long> expectedVersions) {
+        return jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement("""
+                            WITH previous AS (SELECT id, level, version FROM student_tbl WHERE id = ? FOR UPDATE),
+                            updated AS (
+                                UPDATE student_tbl s SET username = ?, level = ?, version = s.version + 1
+                                FROM previous
+                                WHERE s.id = previous.id%s
+                                RETURNING s.version
+                            )
+                            SELECT previous.level, previous.version, (SELECT version FROM updated) AS updated_version
+                            FROM previous
+                            """.formatted(expectedVersions != null ? " AND previous.version = ANY(?)" : ""));
+                    statement.setLong(1, id);
+                    statement.setString(2, username);
+                    statement.setString(3, level.name());
+                    if (expectedVersions != null) {
+                        statement.setArray(4, connection.createArrayOf("bigint", expectedVersions.toArray()));
+                    }
+                    return statement;
+                },
+                (resultSet, rowNum) -> {
+                    long updatedVersion = resultSet.getLong("updated_version");
+                    boolean applied = !resultSet.wasNull();
+                    return new VersionedUpdate(
+                            Level.valueOf(resultSet.getString("level")),
+                            applied ? updatedVersion : resultSet.getLong("version"),
+                            applied
+                    );
+                }
+        ).stream().findFirst();
+    }
+
+    /**
+     * Deletes one student in a single statement and returns its level, or empty when no student
+     * has this id.
+     */
+    public Optional<Level> delete(Long id) {
+        return jdbcTemplate.query(
+                "DELETE FROM student_tbl WHERE id = ? RETURNING level",
+                (resultSet, rowNum) -> Level.valueOf(resultSet.getString(1)),
+                id
+        ).stream().findFirst();
+    }
+
+    /**
+     * Sets the level of every listed student in one statement and returns the rows that existed
+     * together with their previous level.
+     */
+    public List<UpdatedStudent> updateLevelByIds(Collection<Long> ids, Level level) {
+        return jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement("""
+                            UPDATE student_tbl s SET level = ?, version = s.version + 1
+                            FROM (SELECT id, level FROM student_tbl WHERE id = ANY(?) FOR UPDATE) previous
+                            WHERE s.id = previous.id
+                            RETURNING s.id, s.username, s.level, s.version, previous.level AS previous_level
+                            """);
+                    statement.setString(1, level.name());
+                    statement.setArray(2, connection.createArrayOf("bigint", ids.toArray()));
+                    return statement;
+                },
+                UPDATED_STUDENT_ROW_MAPPER
+        );
+    }
+
+    /**
+     * Sets the level of every student matching the filter in one statement and returns the updated
+     * rows together with their previous level.
+     */
+    public List<UpdatedStudent> updateLevelByFilter(StudentFilter filter, Level level) {
+        List<Object> args = new ArrayList<>();
+        args.add(level.name());
+        String where = where(filter, args);
+        return jdbcTemplate.query(
+                """
+                UPDATE student_tbl s SET level = ?, version = s.version + 1
+                FROM (SELECT id, level FROM student_tbl WHERE %s FOR UPDATE) previous
+                WHERE s.id = previous.id
+                RETURNING s.id, s.username, s.level, s.version, previous.level AS previous_level
+                """.formatted(where),
+                UPDATED_STUDENT_ROW_MAPPER,
+                args.toArray()
+        );
+    }
+
+    /**
+     * Deletes every listed student in one statement and returns the rows that existed.
+     */
+    public List<StudentResponse> deleteByIds(Collection<Long> ids) {
+        return jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            "DELETE FROM student_tbl WHERE id = ANY(?) RETURNING id, username, level, version");
+                    statement.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+                    return statement;
+                },
+                STUDENT_ROW_MAPPER
+        );
+    }
+
+    /**
+     * Deletes every student matching the filter in one statement and returns the deleted rows.
+     */
+    public List<StudentResponse> deleteByFilter(StudentFilter filter) {
+        List<Object> args = new ArrayList<>();
+        String where = where(filter, args);
+        return jdbcTemplate.query(
+                "DELETE FROM student_tbl WHERE " + where + " RETURNING id, username, level, version",
+                STUDENT_ROW_MAPPER,
+                args.toArray()
+        );
+    }
+
+    // Same match and expressions as StudentRepository.searchByUsernameOrId: a filter selects what the search endpoint lists, using the same trigram indexes
+    private static String where(StudentFilter filter, List<Object> args) {
+        List<String> predicates = new ArrayList<>(2);
+        if (filter.level() != null) {
+            predicates.add("level = ?");
+            args.add(filter.level().name());
+        }
+        if (filter.search() != null && !filter.search().isBlank()) {
+            predicates.add("(LOWER(username) LIKE LOWER('%' || ? || '%') ESCAPE '!' OR CAST(id AS varchar) LIKE '%' || ? || '%' ESCAPE '!')");
+            String search = StudentRepository.escapeLike(filter.search());
+            args.add(search);
+            args.add(search);
+        }
+        if (predicates.isEmpty()) {
+            throw new IllegalArgumentException("A filter needs a level or a search term");
+        }
+        return String.join(" AND ", predicates);
+    }
+
+    /**
+     * Streams students in id order from a server-side cursor, handing each row to the consumer
+     * as it is read. Must run inside a transaction: the PostgreSQL driver only honours the fetch
+     * size when auto-commit is off, and otherwise buffers the whole result.
+     */
+    public void streamAll(Level level, int fetchSize, Consumer<StudentResponse> consumer) {
+        String sql = level == null
+                ? "SELECT id, username, level, version FROM student_tbl ORDER BY id"
+                : "SELECT id, username, level, version FROM student_tbl WHERE level = ? ORDER BY id";
+
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(fetchSize);
+                    if (level != null) {
+                        statement.setString(1, level.name());
+                    }
+                    return statement;
+                },
+                (RowCallbackHandler) resultSet -> consumer.accept(STUDENT_ROW_MAPPER.mapRow(resultSet, 0))
+        );
+    }
+
+    /**
+     * Row returned by an upsert; {@code inserted} is false when an existing row was updated, and
+     * {@code previousLevel} is null when there was no row before.
+     */
+    /** Row written by an upsert; {@code previousLevel} is set exactly when it was an update. */
+    public record UpsertedStudent(StudentResponse student, boolean inserted, Level previousLevel) {}
+
+    /** Row returned by a level update, with the level it had before the update. */
+    public record UpdatedStudent(StudentResponse student, Level previousLevel) {}
+
+    /**
+     * Outcome of a single-student update: the level before the statement, and the new version when
+     * {@code applied}, otherwise the current version that failed the precondition.
+     */
+    public record VersionedUpdate(Level previousLevel, long version, boolean applied) {}
+}
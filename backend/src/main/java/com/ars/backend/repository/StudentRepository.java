@@ -1,23 +1,120 @@
 package com.ars.backend.repository;
 
+import com.ars.backend.dto.LevelCount;
+import com.ars.backend.dto.StudentResponse;
 import com.ars.backend.entity.Student;
 import com.ars.backend.enumeration.Level;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
 
-    Optional<Student> findByUsername(String username);
+    // Read queries project straight into the response DTO: no managed entities, no dirty-checking snapshots, no mapping pass
+    String SELECT_RESPONSE = "SELECT new com.ars.backend.dto.StudentResponse(s.id, s.username, s.level, s.version) FROM Student s";
 
-    Page<Student> findByLevel(Level level, Pageable pageable);
+    // :search must be passed through escapeLike, so that % and _ in a search term match themselves
+    String MATCHES_SEARCH = " WHERE LOWER(s.username) LIKE LOWER(CONCAT('%', :search, '%')) ESCAPE '!' OR CAST(s.id AS string) LIKE CONCAT('%', :search, '%') ESCAPE '!'";
 
-    @Query("SELECT s FROM Student s WHERE LOWER(s.username) LIKE LOWER(CONCAT('%', :search, '%')) OR CAST(s.id AS string) LIKE CONCAT('%', :search, '%')")
-    Page<Student> searchByUsernameOrId(@Param("search") String search, Pageable pageable);
+    /**
+     * Escapes the LIKE metacharacters of a search term with {@code !}, the escape character the
+     * search queries declare.
+     */
+    static String escapeLike(String search) {
+        return search.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    @Query(SELECT_RESPONSE + " WHERE s.id = :id")
+    Optional<StudentResponse> findResponseById(@Param("id") Long id);
+
+    @Query(value = SELECT_RESPONSE, countQuery = "SELECT COUNT(s) FROM Student s")
+    Page<StudentResponse> findResponsesBy(Pageable pageable);
+
+    // Only used to rebuild the search index, which reads the whole table
+    @Query(SELECT_RESPONSE)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<StudentResponse> streamResponsesBy();
+
+    @Query("SELECT s.username FROM Student s WHERE s.username IN :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    @Query(value = SELECT_RESPONSE + " WHERE s.level = :level", countQuery = "SELECT COUNT(s) FROM Student s WHERE s.level = :level")
+    Page<StudentResponse> findByLevel(@Param("level") Level level, Pageable pageable);
+
+    @Query(value = SELECT_RESPONSE + MATCHES_SEARCH, countQuery = "SELECT COUNT(s) FROM Student s" + MATCHES_SEARCH)
+    Page<StudentResponse> searchByUsernameOrId(@Param("search") String search, Pageable pageable);
+
+    // Slice variants read one extra row to detect a next page instead of issuing a count query
+    @Query(SELECT_RESPONSE)
+    Slice<StudentResponse> findSliceBy(Pageable pageable);
+
+    @Query(SELECT_RESPONSE + " WHERE s.level = :level")
+    Slice<StudentResponse> findSliceByLevel(@Param("level") Level level, Pageable pageable);
+
+    @Query(SELECT_RESPONSE + MATCHES_SEARCH)
+    Slice<StudentResponse> searchSliceByUsernameOrId(@Param("search") String search, Pageable pageable);
+
+    long countByLevel(Level level);
+
+    @Query("SELECT new com.ars.backend.dto.LevelCount(s.level, COUNT(s)) FROM Student s GROUP BY s.level")
+    List<LevelCount> countGroupedByLevel();
+
+    // Planner statistics; reltuples is -1 until the table has been vacuumed or analyzed
+    @Query(value = "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = CAST('student_tbl' AS regclass)", nativeQuery = true)
+    Long estimateCount();
+
+    @Query(value = """
+            SELECT CAST(c.reltuples * s.freq AS bigint)
+            FROM pg_class c,
+                 (SELECT unnest(CAST(CAST(most_common_vals AS text) AS text[])) AS val,
+                         unnest(most_common_freqs) AS freq
+                  FROM pg_stats
+                  WHERE schemaname = current_schema() AND tablename = 'student_tbl' AND attname = 'level') s
+            WHERE c.oid = CAST('student_tbl' AS regclass) AND c.reltuples >= 0 AND s.val = :level
+            """, nativeQuery = true)
+    Optional<Long> estimateCountByLevel(@Param("level") String level);
+
+    // Keyset (seek) queries: the Pageable always starts at offset 0 and only carries the limit and sort
+    @Query(SELECT_RESPONSE)
+    List<StudentResponse> findAllBy(Pageable pageable);
+
+    @Query(SELECT_RESPONSE + " WHERE s.id > :id")
+    List<StudentResponse> findByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_RESPONSE + " WHERE s.id < :id")
+    List<StudentResponse> findByIdLessThan(@Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_RESPONSE + " WHERE s.username > :username")
+    List<StudentResponse> findByUsernameGreaterThan(@Param("username") String username, Pageable pageable);
+
+    @Query(SELECT_RESPONSE + " WHERE s.username < :username")
+    List<StudentResponse> findByUsernameLessThan(@Param("username") String username, Pageable pageable);
+
+    @Query(SELECT_RESPONSE + " WHERE s.level = :level")
+    List<StudentResponse> findAllByLevel(@Param("level") Level level, Pageable pageable);
+
+    @Query(SELECT_RESPONSE + " WHERE s.level = :level AND s.id > :id")
+    List<StudentResponse> findByLevelAndIdGreaterThan(@Param("level") Level level, @Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_RESPONSE + " WHERE s.level = :level AND s.id < :id")
+    List<StudentResponse> findByLevelAndIdLessThan(@Param("level") Level level, @Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_RESPONSE + " WHERE s.level = :level AND s.username > :username")
+    List<StudentResponse> findByLevelAndUsernameGreaterThan(@Param("level") Level level, @Param("username") String username, Pageable pageable);
+
+    @Query(SELECT_RESPONSE + " WHERE s.level = :level AND s.username < :username")
+    List<StudentResponse> findByLevelAndUsernameLessThan(@Param("level") Level level, @Param("username") String username, Pageable pageable);
 }
@@ -0,0 +1,294 @@
+package com.ars.backend.search;
+
+import com.ars.backend.dto.StudentChange;
+import com.ars.backend.dto.StudentResponse;
+import com.ars.backend.event.StudentChangedEvent;
+import com.ars.backend.repository.StudentChangeRepository;
+import com.ars.backend.repository.StudentChangeRepository.ChangePosition;
+import com.ars.backend.repository.StudentChangeRepository.ChangeRow;
+import com.ars.backend.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory n-gram inverted index over student usernames and ids.
+ * <p>
+ * Every 1-, 2- and 3-gram of the lower-cased username and of the id digits points to the
+ * students containing it. Queries of up to three characters are a single posting lookup;
+ * longer queries scan the smallest posting of their trigrams and verify each candidate.
+ * Matching follows {@link StudentRepository#searchByUsernameOrId}: case-insensitive
+ * substring on the username, or substring on the id, with {@code %} and {@code _} matched
+ * literally.
+ * <p>
+ * Changes keep being applied while {@link #rebuild()} streams the table. A document is only
+ * replaced by one with the same or a newer version, and ids deleted during the rebuild are
+ * remembered so the stream cannot bring back a row it read before the delete committed.
+ * <p>
+ * Change events only cover writes made through this instance. Every
+ * {@code students.search.catch-up-interval} the index also reads the V5 change log from the
+ * position it was rebuilt at, so writes from other instances or plain SQL, and events lost
+ * during a rebuild, show up within that interval. If tombstones past that position have been
+ * purged, deletes may be missing and the index is rebuilt instead.
+ * <p>
+ * A page is selected with a bounded heap of {@code offset + size} documents rather than by
+ * sorting every match, so a one-character query on a large roster stays cheap.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudentSearchIndex {
+
+    private static final int MAX_GRAM_LENGTH = 3;
+    private static final int CATCH_UP_BATCH_SIZE = 1000;
+
+    private final StudentRepository studentRepository;
+    private final StudentChangeRepository studentChangeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, StudentResponse> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private volatile Set<Long> deletedDuringRebuild;
+    private volatile boolean ready;
+    // Change log position the index is caught up to, and the tombstone horizon when it was rebuilt
+    private ChangePosition position;
+    private long horizon;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        ready = false;
+        deletedDuringRebuild = ConcurrentHashMap.newKeySet();
+        documents.clear();
+        postings.clear();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // Read before the stream: every change up to this position is in the streamed rows
+                horizon = studentChangeRepository.purgedHorizon();
+                position = studentChangeRepository.latestSettledPosition();
+                try (Stream<StudentResponse> students = studentRepository.streamResponsesBy()) {
+                    students.forEach(this::putStreamed);
+                }
+            });
+        } finally {
+            deletedDuringRebuild = null;
+        }
+        ready = true;
+    }
+
+    @Scheduled(
+            initialDelayString = "${students.search.catch-up-interval}",
+            fixedDelayString = "${students.search.catch-up-interval}"
+    )
+    public synchronized void catchUp() {
+        if (!ready) {
+            return;
+        }
+        long currentHorizon = studentChangeRepository.purgedHorizon();
+        if (currentHorizon > horizon && position.changeXid() <= currentHorizon) {
+            rebuild();
+            return;
+        }
+
+        List<ChangeRow> rows;
+        do {
+            rows = studentChangeRepository.findChangesAfter(position.changeXid(), position.changeSeq(), CATCH_UP_BATCH_SIZE);
+            for (ChangeRow row : rows) {
+                StudentChange change = row.change();
+                switch (change.type()) {
+                    case UPSERTED -> put(change.student());
+                    case DELETED -> remove(change.id());
+                }
+                position = new ChangePosition(row.changeXid(), row.changeSeq());
+            }
+        } while (rows.size() == CATCH_UP_BATCH_SIZE);
+    }
+
+    @TransactionalEventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> put(event.student());
+            case DELETED -> remove(event.studentId());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public void put(StudentResponse student) {
+        documents.compute(student.id(), (id, previous) -> replace(previous, student));
+    }
+
+    public void remove(Long id) {
+        // Recorded before the document goes, so a streamed row for this id checked after it is skipped
+        Set<Long> deleted = deletedDuringRebuild;
+        if (deleted != null) {
+            deleted.add(id);
+        }
+        documents.computeIfPresent(id, (key, previous) -> {
+            unindex(previous);
+            return null;
+        });
+    }
+
+    public Page<StudentResponse> search(String query, Pageable pageable) {
+        String needle = query.toLowerCase(Locale.ROOT);
+        Comparator<StudentResponse> order = comparator(pageable.getSort());
+
+        if (pageable.isUnpaged()) {
+            List<StudentResponse> matches = candidates(needle).stream()
+                    .map(documents::get)
+                    .filter(Objects::nonNull)
+                    .filter(student -> matches(student, needle))
+                    .sorted(order)
+                    .toList();
+            return new PageImpl<>(matches, pageable, matches.size());
+        }
+
+        // Keeps the first offset + size matches in a max-heap: O(n log k) and k documents of memory
+        int limit = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+        PriorityQueue<StudentResponse> top = new PriorityQueue<>(Math.min(limit, 1024), order.reversed());
+        long total = 0;
+        for (Long id : candidates(needle)) {
+            StudentResponse student = documents.get(id);
+            if (student == null || !matches(student, needle)) {
+                continue;
+            }
+            total++;
+            if (top.size() < limit) {
+                top.add(student);
+            } else if (order.compare(student, top.peek()) < 0) {
+                top.poll();
+                top.add(student);
+            }
+        }
+
+        List<StudentResponse> first = new ArrayList<>(top);
+        first.sort(order);
+        int from = (int) Math.min(pageable.getOffset(), first.size());
+        return new PageImpl<>(first.subList(from, first.size()), pageable, total);
+    }
+
+    private Collection<Long> candidates(String needle) {
+        if (needle.isEmpty()) {
+            return documents.keySet();
+        }
+        if (needle.length() <= MAX_GRAM_LENGTH) {
+            return postings.getOrDefault(needle, Set.of());
+        }
+
+        Set<Long> smallest = null;
+        for (int i = 0; i + MAX_GRAM_LENGTH <= needle.length(); i++) {
+            Set<Long> ids = postings.get(needle.substring(i, i + MAX_GRAM_LENGTH));
+            if (ids == null) {
+                return Set.of();
+            }
+            if (smallest == null || ids.size() < smallest.size()) {
+                smallest = ids;
+            }
+        }
+        return smallest;
+    }
+
+    // The deleted check runs inside compute, so it cannot interleave with remove() for the same id
+    private void putStreamed(StudentResponse student) {
+        Set<Long> deleted = deletedDuringRebuild;
+        documents.compute(student.id(), (id, previous) ->
+                deleted != null && deleted.contains(id) ? previous : replace(previous, student));
+    }
+
+    // Keeps the newer of the two documents: a change applied during a rebuild wins over the row streamed before it
+    private StudentResponse replace(StudentResponse previous, StudentResponse student) {
+        if (previous == null) {
+            index(student);
+            return student;
+        }
+        if (previous.version() != null && student.version() != null && previous.version() > student.version()) {
+            return previous;
+        }
+        unindex(previous);
+        index(student);
+        return student;
+    }
+
+    private static boolean matches(StudentResponse student, String needle) {
+        return student.username().toLowerCase(Locale.ROOT).contains(needle)
+                || String.valueOf(student.id()).contains(needle);
+    }
+
+    private void index(StudentResponse student) {
+        for (String gram : grams(student)) {
+            postings.compute(gram, (key, ids) -> {
+                Set<Long> target = ids != null ? ids : ConcurrentHashMap.newKeySet();
+                target.add(student.id());
+                return target;
+            });
+        }
+    }
+
+    private void unindex(StudentResponse student) {
+        for (String gram : grams(student)) {
+            postings.computeIfPresent(gram, (key, ids) -> {
+                ids.remove(student.id());
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private static Set<String> grams(StudentResponse student) {
+        Set<String> grams = new HashSet<>();
+        addGrams(grams, student.username().toLowerCase(Locale.ROOT));
+        addGrams(grams, String.valueOf(student.id()));
+        return grams;
+    }
+
+    private static void addGrams(Set<String> grams, String text) {
+        for (int length = 1; length <= MAX_GRAM_LENGTH; length++) {
+            for (int i = 0; i + length <= text.length(); i++) {
+                grams.add(text.substring(i, i + length));
+            }
+        }
+    }
+
+    private static Comparator<StudentResponse> comparator(Sort sort) {
+        Comparator<StudentResponse> byId = Comparator.comparing(StudentResponse::id);
+        Comparator<StudentResponse> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<StudentResponse> next = switch (order.getProperty()) {
+                case "id" -> byId;
+                case "username" -> Comparator.comparing(StudentResponse::username);
+                case "level" -> Comparator.comparing(student -> student.level().name());
+                default -> throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+            };
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator == null ? byId : comparator.thenComparing(byId);
+    }
+}
@@ -0,0 +1,52 @@
+package com.ars.backend.security;
+
+import com.ars.backend.repository.AdminRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Caches whether an admin still exists, so claims-based authentication can notice removed
+ * accounts within one TTL without querying the database on every request.
+ * <p>
+ * Tokens carry arbitrary usernames, so the cache is bounded by
+ * {@code security.jwt.admin-exists-cache-size} as well as by the TTL.
+ */
+@Component
+public class AdminExistenceCache {
+
+    private final AdminRepository adminRepository;
+    private final Cache<String, Boolean> entries;
+
+    public AdminExistenceCache(AdminRepository adminRepository, JwtProperties properties, MeterRegistry meterRegistry) {
+        this.adminRepository = adminRepository;
+        long ttlMillis = properties.getAdminExistsCacheTtl();
+        if (ttlMillis <= 0) {
+            this.entries = null;
+            return;
+        }
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(properties.getAdminExistsCacheSize())
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "admin-exists");
+    }
+
+    public boolean exists(String username) {
+        if (entries == null) {
+            return true;
+        }
+        return entries.get(username, adminRepository::existsByUsername);
+    }
+
+    public void invalidate(String username) {
+        if (entries != null) {
+            entries.invalidate(username);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.ars.backend.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.auth")
+public class AuthProperties {
+    /** Threads hashing passwords for login and register; 0 uses half the available processors */
+    private int hashingThreads = 0;
+
+    /** Hashing requests allowed to wait for a thread before new ones are rejected with 429 */
+    private int hashingQueueCapacity = 64;
+
+    /** Login and register attempts a client IP may burst */
+    private int ipBurst = 20;
+
+    /** Time for a client IP to earn back one attempt */
+    private Duration ipRefillPeriod = Duration.ofSeconds(3);
+
+    /** Login and register attempts a username may burst */
+    private int usernameBurst = 5;
+
+    /** Time for a username to earn back one attempt */
+    private Duration usernameRefillPeriod = Duration.ofSeconds(12);
+
+    /** Maximum number of IPs and of usernames tracked at once; idle ones are dropped first */
+    private int maximumTrackedKeys = 100_000;
+}
@@ -0,0 +1,72 @@
+package com.ars.backend.security;
+
+import com.ars.backend.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Per-client-IP and per-username token buckets in front of login and register, so a burst is
+ * turned away with 429 before it reaches the password hashing pool. Buckets live in bounded
+ * Caffeine maps (striped internally), so random usernames from a stuffing run cannot grow them
+ * without limit; a bucket idle for longer than it takes to refill completely is dropped.
+ */
+@Component
+public class AuthThrottle {
+
+    private final AuthProperties properties;
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final Cache<String, TokenBucket> usernameBuckets;
+    private final Counter ipRejections;
+    private final Counter usernameRejections;
+
+    public AuthThrottle(AuthProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.ipBuckets = buckets(properties.getIpBurst(), properties.getIpRefillPeriod(), properties.getMaximumTrackedKeys());
+        this.usernameBuckets = buckets(properties.getUsernameBurst(), properties.getUsernameRefillPeriod(), properties.getMaximumTrackedKeys());
+        this.ipRejections = rejections(meterRegistry, "ip");
+        this.usernameRejections = rejections(meterRegistry, "username");
+    }
+
+    /**
+     * Takes one attempt from the client IP's and the username's bucket, or throws
+     * {@link TooManyRequestsException} with the time until the next attempt is allowed.
+     */
+    public void acquire(String clientIp, String username) {
+        long now = System.nanoTime();
+        long ipWait = ipBuckets
+                .get(clientIp, key -> new TokenBucket(properties.getIpBurst(), properties.getIpRefillPeriod().toNanos(), now))
+                .tryAcquire(now);
+        if (ipWait > 0) {
+            ipRejections.increment();
+            throw new TooManyRequestsException("Too many authentication attempts from this address", Duration.ofNanos(ipWait));
+        }
+
+        long usernameWait = usernameBuckets
+                .get(username.toLowerCase(Locale.ROOT), key -> new TokenBucket(properties.getUsernameBurst(), properties.getUsernameRefillPeriod().toNanos(), now))
+                .tryAcquire(now);
+        if (usernameWait > 0) {
+            usernameRejections.increment();
+            throw new TooManyRequestsException("Too many authentication attempts for this username", Duration.ofNanos(usernameWait));
+        }
+    }
+
+    private static Cache<String, TokenBucket> buckets(int burst, Duration refillPeriod, int maximumSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(refillPeriod.multipliedBy(burst))
+                .build();
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String key) {
+        return Counter.builder("security.auth.throttled")
+                .description("Login and register attempts rejected by the throttle")
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,75 @@
+package com.ars.backend.security;
+
+import com.ars.backend.exception.TooManyRequestsException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs the delegate's hashing on a dedicated, bounded executor, so a burst of logins can only
+ * use the CPU given to that pool. The request thread still blocks until its hash is done; what
+ * is bounded is how many can wait, at most the pool size plus the queue capacity. Beyond that
+ * the caller gets a {@link TooManyRequestsException} immediately instead of queueing.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final PasswordEncoder delegate;
+    private final ExecutorService executor;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, ExecutorService executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return call(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return call(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T call(Callable<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(hashing);
+        } catch (RejectedExecutionException ex) {
+            throw new TooManyRequestsException("Too many authentication requests in progress", RETRY_AFTER);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing a password", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package com.ars.backend.security;
 
 import com.ars.backend.service.impl.AdminDetailsService;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -15,28 +22,61 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider tokenProvider;
+    /** Request attribute holding the verified claims of an authenticated request's token */
+    public static final String CLAIMS_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".claims";
+
+    private static final String STREAM_PATH = "/api/students/stream";
+    private static final String ACCESS_TOKEN_PARAMETER = "access_token";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
     private final AdminDetailsService adminDetailsService;
+    private final AdminExistenceCache adminExistenceCache;
+    private final JwtProperties properties;
+    private final Timer authenticatedTimer;
+    private final Timer rejectedTimer;
+    private final Timer anonymousTimer;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, AdminDetailsService adminDetailsService) {
-        this.tokenProvider = tokenProvider;
+    public JwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache,
+                                   TokenRevocationList tokenRevocationList,
+                                   AdminDetailsService adminDetailsService,
+                                   AdminExistenceCache adminExistenceCache,
+                                   JwtProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationList = tokenRevocationList;
         this.adminDetailsService = adminDetailsService;
+        this.adminExistenceCache = adminExistenceCache;
+        this.properties = properties;
+        // Measures only the authentication work, not the rest of the chain
+        this.authenticatedTimer = filterTimer(meterRegistry, "authenticated");
+        this.rejectedTimer = filterTimer(meterRegistry, "rejected");
+        this.anonymousTimer = filterTimer(meterRegistry, "anonymous");
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
         String jwt = resolveToken(request);
+        Timer timer = anonymousTimer;
 
         if (jwt != null) {
-            String username = tokenProvider.extractUsername(jwt);
-            UserDetails userDetails = adminDetailsService.loadUserByUsername(username);
-            if (tokenProvider.isTokenValid(jwt, userDetails.getUsername())) {
+            timer = rejectedTimer;
+            // Signature and expiry are checked once per token; later requests hit the cache.
+            // Revocation is a Bloom filter probe, so live tokens never reach the database.
+            Optional<Claims> claims = verifiedTokenCache.verify(jwt)
+                    .filter(verified -> !tokenRevocationList.isRevoked(verified.getId()));
+            UserDetails userDetails = claims.map(this::resolvePrincipal).orElse(null);
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -44,17 +84,51 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 );
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                // Long-lived responses such as the change stream re-check the token's id and expiry later
+                request.setAttribute(CLAIMS_ATTRIBUTE, claims.get());
+                timer = authenticatedTimer;
             }
         }
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
 
         filterChain.doFilter(request, response);
     }
 
+    private UserDetails resolvePrincipal(Claims claims) {
+        String username = claims.getSubject();
+        if (!properties.isClaimsPrincipal()) {
+            return adminDetailsService.loadUserByUsername(username);
+        }
+        if (!adminExistenceCache.exists(username)) {
+            return null;
+        }
+
+        String role = claims.get(JwtTokenProvider.ROLE_CLAIM, String.class);
+        List<GrantedAuthority> authorities = role != null
+                ? List.of(new SimpleGrantedAuthority("ROLE_" + role))
+                : List.of();
+        return new User(username, "", authorities);
+    }
+
+    private static Timer filterTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("security.jwt.filter")
+                .description("Time spent authenticating a request from its bearer token")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader(HttpHeaders.AUTHORIZATION);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
             return bearerToken.substring(7);
         }
+        // EventSource cannot set headers; only the change stream accepts the token in its URL
+        if (HttpMethod.GET.matches(request.getMethod()) && STREAM_PATH.equals(request.getRequestURI())) {
+            String queryToken = request.getParameter(ACCESS_TOKEN_PARAMETER);
+            if (StringUtils.hasText(queryToken)) {
+                return queryToken;
+            }
+        }
         return null;
     }
 }
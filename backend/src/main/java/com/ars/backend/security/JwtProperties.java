@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @Component
@@ -15,5 +17,26 @@ public class JwtProperties {
 
     /** Token validity in milliseconds */
     private long expiration;
+
+    /** Maximum number of verified tokens kept in memory */
+    private int verifiedTokenCacheSize = 10_000;
+
+    /** Build the principal from token claims instead of loading the admin on every request */
+    private boolean claimsPrincipal = true;
+
+    /** How long an admin existence check is cached in milliseconds; 0 skips the check */
+    private long adminExistsCacheTtl = 60_000;
+
+    /** Maximum number of admin existence checks kept in memory */
+    private int adminExistsCacheSize = 1_000;
+
+    /** Revoked tokens the Bloom filter is sized for; it grows to twice the revoked count on reload */
+    private int revocationExpectedTokens = 10_000;
+
+    /** Share of live tokens the Bloom filter sends on to the exact revocation set */
+    private double revocationFalsePositiveRate = 0.001;
+
+    /** How often revocations are reloaded from the database and expired ones purged */
+    private Duration revocationReloadInterval = Duration.ofMinutes(1);
 }
 
@@ -2,6 +2,7 @@ package com.ars.backend.security;
 
 import com.ars.backend.entity.Admin;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -11,16 +12,24 @@ import org.springframework.stereotype.Component;
 import java.security.Key;
 import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
+    public static final String ROLE_CLAIM = "role";
+
     private final JwtProperties properties;
     private final Key signingKey;
+    private final JwtParser jwtParser;
 
     public JwtTokenProvider(JwtProperties properties) {
         this.properties = properties;
         this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(properties.getSecret()));
+        // Parsers are immutable and thread-safe, so one instance serves every request
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     public String generateToken(Admin admin) {
@@ -28,31 +37,17 @@ public class JwtTokenProvider {
         Instant expiry = now.plusMillis(properties.getExpiration());
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(admin.getUsername())
-                .claim("role", "ADMIN")
+                .claim(ROLE_CLAIM, "ADMIN")
                 .setIssuedAt(Date.from(now))
                 .setExpiration(Date.from(expiry))
                 .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String extractUsername(String token) {
-        return parseClaims(token).getSubject();
-    }
-
-    public boolean isTokenValid(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return extractedUsername.equals(username) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return parseClaims(token).getExpiration().before(new Date());
-    }
-
     public Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(signingKey)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -0,0 +1,36 @@
+package com.ars.backend.security;
+
+/**
+ * Token bucket refilled one token per period up to its capacity. Time is passed in by the
+ * caller as {@link System#nanoTime()} values.
+ */
+final class TokenBucket {
+
+    private final int capacity;
+    private final long refillNanos;
+    private int tokens;
+    private long refilledAt;
+
+    TokenBucket(int capacity, long refillNanos, long now) {
+        this.capacity = capacity;
+        this.refillNanos = refillNanos;
+        this.tokens = capacity;
+        this.refilledAt = now;
+    }
+
+    /**
+     * Takes a token and returns 0, or returns how many nanoseconds remain until one is available.
+     */
+    synchronized long tryAcquire(long now) {
+        long earned = (now - refilledAt) / refillNanos;
+        if (earned > 0) {
+            tokens = (int) Math.min(capacity, tokens + earned);
+            refilledAt = tokens == capacity ? now : refilledAt + earned * refillNanos;
+        }
+        if (tokens > 0) {
+            tokens--;
+            return 0;
+        }
+        return refillNanos - (now - refilledAt);
+    }
+}
@@ -0,0 +1,126 @@
+package com.ars.backend.security;
+
+import com.ars.backend.entity.RevokedToken;
+import com.ars.backend.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ids ({@code jti}) of tokens revoked before their expiry.
+ * <p>
+ * Lookups first ask a Bloom filter, which answers "not revoked" for almost every live token
+ * without touching the exact set or the database; only filter hits are confirmed against the
+ * exact set. Revocations are written to {@code revoked_token_tbl} and both structures are rebuilt
+ * from it on startup and every {@code security.jwt.revocation-reload-interval}, which also drops
+ * expired tokens and picks up revocations made by other instances.
+ */
+@Component
+public class TokenRevocationList {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final JwtProperties properties;
+    private final Counter falsePositives;
+    private final Counter rejections;
+    private volatile State state;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               JwtProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.properties = properties;
+        this.state = newState(0);
+        this.falsePositives = Counter.builder("security.jwt.revocation.false.positives")
+                .description("Live tokens the Bloom filter flagged and the exact set cleared")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("security.jwt.revocation.rejections")
+                .description("Requests made with a revoked token")
+                .register(meterRegistry);
+        Gauge.builder("security.jwt.revocation.size", this, TokenRevocationList::size)
+                .description("Revoked tokens that have not expired yet")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns whether the token id was revoked. Tokens issued without an id cannot be revoked.
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        State current = state;
+        if (!current.filter().mightContain(jti)) {
+            return false;
+        }
+        if (current.revoked().containsKey(jti)) {
+            rejections.increment();
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * Persists the revocation, then applies it to this instance; other instances see it after
+     * their next reload.
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        if (!expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        revokedTokenRepository.save(new RevokedToken(jti, expiresAt));
+        synchronized (this) {
+            add(state, jti, expiresAt);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${security.jwt.revocation-reload-interval}",
+            fixedDelayString = "${security.jwt.revocation-reload-interval}"
+    )
+    public void reload() {
+        Instant now = Instant.now();
+        revokedTokenRepository.deleteExpired(now);
+        List<RevokedToken> active = revokedTokenRepository.findByExpiresAtAfter(now);
+
+        // Sized for what is revoked now, so the false-positive rate is restored on every reload
+        State loaded = newState(active.size());
+        active.forEach(token -> add(loaded, token.getJti(), token.getExpiresAt()));
+        synchronized (this) {
+            // Keep revocations made on this instance while the query ran
+            state.revoked().forEach((jti, expiresAt) -> {
+                if (expiresAt.isAfter(now) && !loaded.revoked().containsKey(jti)) {
+                    add(loaded, jti, expiresAt);
+                }
+            });
+            state = loaded;
+        }
+    }
+
+    public int size() {
+        return state.revoked().size();
+    }
+
+    private State newState(int revoked) {
+        int expected = Math.max(properties.getRevocationExpectedTokens(), revoked * 2);
+        return new State(new BloomFilter(expected, properties.getRevocationFalsePositiveRate()), new ConcurrentHashMap<>());
+    }
+
+    // The exact entry goes in first, so a reader that passes the filter always finds it
+    private static void add(State state, String jti, Instant expiresAt) {
+        state.revoked().put(jti, expiresAt);
+        state.filter().add(jti);
+    }
+
+    private record State(BloomFilter filter, Map<String, Instant> revoked) {}
+}
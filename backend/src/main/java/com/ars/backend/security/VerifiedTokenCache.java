@@ -0,0 +1,110 @@
+package com.ars.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Remembers the claims of tokens whose signature has already been verified, so a token is
+ * HMAC-checked once and then resolved with a hash lookup until it expires.
+ * <p>
+ * Entries are keyed by the SHA-256 of the token, so raw bearer tokens are never retained.
+ * Caffeine bounds the cache by size and drops each entry at its token's {@code exp}, both in
+ * amortised constant time, so a full cache costs a miss no more than an empty one.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider tokenProvider;
+    private final Cache<String, Claims> verified;
+    private final Counter hits;
+    private final Counter rejections;
+    private final Timer verification;
+
+    public VerifiedTokenCache(JwtTokenProvider tokenProvider, JwtProperties properties, MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(properties.getVerifiedTokenCacheSize())
+                .expireAfter(Expiry.creating((String key, Claims claims) ->
+                        Duration.between(Instant.now(), claims.getExpiration().toInstant())))
+                .build();
+        this.hits = Counter.builder("security.jwt.cache.hits")
+                .description("Tokens resolved from the verified-token cache")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("security.jwt.rejections")
+                .description("Tokens rejected as malformed, tampered with or expired")
+                .register(meterRegistry);
+        this.verification = Timer.builder("security.jwt.verification")
+                .description("Signature verification and parsing of tokens missing from the cache")
+                .register(meterRegistry);
+        Gauge.builder("security.jwt.cache.size", verified, Cache::estimatedSize)
+                .description("Verified tokens currently cached")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the claims of a valid, unexpired token, or empty if the token is malformed,
+     * tampered with or expired.
+     */
+    public Optional<Claims> verify(String token) {
+        String key = hash(token);
+
+        // Caffeine never returns an entry past its expiry; an expired token is parsed again and rejected
+        Claims cached = verified.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+
+        Claims claims;
+        Timer.Sample sample = Timer.start();
+        try {
+            claims = tokenProvider.parseClaims(token);
+        } catch (JwtException | IllegalArgumentException ex) {
+            rejections.increment();
+            return Optional.empty();
+        } finally {
+            sample.stop(verification);
+        }
+
+        // A token without exp would never leave the cache, so it is verified on every request instead
+        if (claims.getExpiration() != null) {
+            verified.put(key, claims);
+        }
+        return Optional.of(claims);
+    }
+
+    public void invalidate(String token) {
+        verified.invalidate(hash(token));
+    }
+
+    public long size() {
+        // Evictions run asynchronously; settle them so the count reflects the bound
+        verified.cleanUp();
+        return verified.estimatedSize();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
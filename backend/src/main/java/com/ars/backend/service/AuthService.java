@@ -6,5 +6,6 @@ import com.ars.backend.dto.AuthResponse;
 public interface AuthService {
     AuthResponse register(AuthRequest request);
     AuthResponse login(AuthRequest request);
+    void logout(String token);
 }
 
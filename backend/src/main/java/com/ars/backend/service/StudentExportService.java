@@ -0,0 +1,11 @@
+package com.ars.backend.service;
+
+import com.ars.backend.enumeration.DataFormat;
+import com.ars.backend.enumeration.Level;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface StudentExportService {
+    long exportStudents(Level level, DataFormat format, OutputStream output) throws IOException;
+}
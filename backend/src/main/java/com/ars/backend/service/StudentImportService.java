@@ -0,0 +1,11 @@
+package com.ars.backend.service;
+
+import com.ars.backend.dto.StudentImportResult;
+import com.ars.backend.enumeration.DataFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface StudentImportService {
+    StudentImportResult importStudents(InputStream input, DataFormat format) throws IOException;
+}
@@ -1,18 +1,39 @@
 package com.ars.backend.service;
 
+import com.ars.backend.dto.CursorPage;
+import com.ars.backend.dto.StudentBatchDeleteRequest;
+import com.ars.backend.dto.StudentBatchResult;
+import com.ars.backend.dto.StudentBatchUpdateRequest;
 import com.ars.backend.dto.StudentRequest;
 import com.ars.backend.dto.StudentResponse;
+import com.ars.backend.dto.StudentStatisticsResponse;
+import com.ars.backend.dto.StudentUpsertResult;
 import com.ars.backend.enumeration.Level;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collection;
 
 public interface StudentService {
 
     Page<StudentResponse> getAllStudents(Pageable pageable);
     StudentResponse getStudentById(Long id);
     StudentResponse createStudent(StudentRequest request);
-    StudentResponse updateStudent(Long id, StudentRequest request);
+    StudentUpsertResult upsertStudent(StudentRequest request);
+    StudentResponse updateStudent(Long id, StudentRequest request, Collection<Long> expectedVersions);
     void deleteStudent(Long id);
+    StudentBatchResult updateStudentsLevel(StudentBatchUpdateRequest request);
+    StudentBatchResult deleteStudents(StudentBatchDeleteRequest request);
+    StudentStatisticsResponse getStatistics();
     Page<StudentResponse> searchStudents(String search, Pageable pageable);
     Page<StudentResponse> getStudentsByLevel(Level level, Pageable pageable);
+    Slice<StudentResponse> getAllStudentsSlice(Pageable pageable);
+    Slice<StudentResponse> searchStudentsSlice(String search, Pageable pageable);
+    Slice<StudentResponse> getStudentsByLevelSlice(Level level, Pageable pageable);
+    Page<StudentResponse> getAllStudentsWithEstimatedTotal(Pageable pageable);
+    Page<StudentResponse> getStudentsByLevelWithEstimatedTotal(Level level, Pageable pageable);
+    CursorPage<StudentResponse> getStudentsAfter(String after, int size, String sortBy, Sort.Direction direction);
+    CursorPage<StudentResponse> getStudentsByLevelAfter(Level level, String after, int size, String sortBy, Sort.Direction direction);
 }
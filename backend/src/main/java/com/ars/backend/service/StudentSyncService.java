@@ -0,0 +1,7 @@
+package com.ars.backend.service;
+
+import com.ars.backend.dto.StudentChangesResponse;
+
+public interface StudentSyncService {
+    StudentChangesResponse getChangesSince(String token, int size);
+}
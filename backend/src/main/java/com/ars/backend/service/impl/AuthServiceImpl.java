@@ -5,34 +5,50 @@ import com.ars.backend.dto.AuthResponse;
 import com.ars.backend.entity.Admin;
 import com.ars.backend.exception.DuplicateResourceException;
 import com.ars.backend.repository.AdminRepository;
+import com.ars.backend.security.AdminExistenceCache;
 import com.ars.backend.security.JwtTokenProvider;
+import com.ars.backend.security.TokenRevocationList;
+import com.ars.backend.security.VerifiedTokenCache;
 import com.ars.backend.service.AuthService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Not transactional on purpose: every repository call runs in its own short transaction, so a
+ * pooled connection is only held for the lookup or the insert and never across a BCrypt hash.
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class AuthServiceImpl implements AuthService {
 
     private final AdminRepository adminRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final AdminExistenceCache adminExistenceCache;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
 
     @Override
     public AuthResponse register(AuthRequest request) {
         if (adminRepository.existsByUsername(request.username())) {
-            throw new DuplicateResourceException("Admin with username '" + request.username() + "' already exists");
+            throw duplicateUsername(request.username());
         }
 
         Admin admin = Admin.builder()
                 .username(request.username())
                 .password(passwordEncoder.encode(request.password()))
                 .build();
-        Admin savedAdmin = adminRepository.save(admin);
+        Admin savedAdmin;
+        try {
+            savedAdmin = adminRepository.save(admin);
+        } catch (DataIntegrityViolationException ex) {
+            // Registered concurrently between the check and the insert; the unique constraint decides
+            throw duplicateUsername(request.username());
+        }
+        adminExistenceCache.invalidate(savedAdmin.getUsername());
 
         return new AuthResponse(jwtTokenProvider.generateToken(savedAdmin));
     }
@@ -48,5 +64,16 @@ public class AuthServiceImpl implements AuthService {
 
         return new AuthResponse(jwtTokenProvider.generateToken(admin));
     }
-}
 
+    @Override
+    public void logout(String token) {
+        // An invalid or expired token is already unusable, and tokens without an id cannot be revoked
+        verifiedTokenCache.verify(token)
+                .filter(claims -> claims.getId() != null)
+                .ifPresent(claims -> tokenRevocationList.revoke(claims.getId(), claims.getExpiration().toInstant()));
+    }
+
+    private static DuplicateResourceException duplicateUsername(String username) {
+        return new DuplicateResourceException("Admin with username '" + username + "' already exists");
+    }
+}
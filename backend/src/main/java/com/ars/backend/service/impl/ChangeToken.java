@@ -0,0 +1,50 @@
+package com.ars.backend.service.impl;
+
+import com.ars.backend.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in the student change log: the writing transaction and change sequence of the last
+ * change a client has seen, plus the tombstone horizon the token was issued under, so that a
+ * later purge can tell whether the client may have missed a delete. Clients only ever see the
+ * opaque URL-safe Base64 form.
+ */
+record ChangeToken(long changeXid, long changeSeq, long horizon) {
+
+    private static final String SEPARATOR = ":";
+
+    static ChangeToken start(long horizon) {
+        return new ChangeToken(0, 0, horizon);
+    }
+
+    static ChangeToken decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR);
+            if (parts.length != 3) {
+                throw new BadRequestException("Invalid sync token");
+            }
+            return new ChangeToken(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid sync token");
+        }
+    }
+
+    /**
+     * Whether tombstones this client had not seen yet were purged since the token was issued.
+     */
+    boolean expiredBy(long currentHorizon) {
+        return currentHorizon > horizon && changeXid <= currentHorizon;
+    }
+
+    ChangeToken advanceTo(long changeXid, long changeSeq, long currentHorizon) {
+        return new ChangeToken(changeXid, changeSeq, currentHorizon);
+    }
+
+    String encode() {
+        String raw = changeXid + SEPARATOR + changeSeq + SEPARATOR + horizon;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
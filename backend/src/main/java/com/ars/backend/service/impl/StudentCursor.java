@@ -0,0 +1,41 @@
+package com.ars.backend.service.impl;
+
+import com.ars.backend.dto.StudentResponse;
+import com.ars.backend.exception.BadRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last row returned by a keyset page: the sort key it was ordered by and the
+ * row's id. Clients only ever see the opaque URL-safe Base64 form.
+ */
+record StudentCursor(String sortBy, Sort.Direction direction, Long id, String value) {
+
+    private static final String SEPARATOR = ":";
+
+    static StudentCursor after(StudentResponse last, String sortBy, Sort.Direction direction) {
+        String value = "username".equals(sortBy) ? last.username() : String.valueOf(last.id());
+        return new StudentCursor(sortBy, direction, last.id(), value);
+    }
+
+    static StudentCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The value goes last so that usernames containing the separator survive the split
+            String[] parts = decoded.split(SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new StudentCursor(parts[0], Sort.Direction.valueOf(parts[1]), Long.valueOf(parts[2]), parts[3]);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    String encode() {
+        String raw = String.join(SEPARATOR, sortBy, direction.name(), String.valueOf(id), value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
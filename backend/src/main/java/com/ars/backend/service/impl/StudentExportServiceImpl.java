@@ -0,0 +1,78 @@
+package com.ars.backend.service.impl;
+
+import com.ars.backend.config.StudentExportProperties;
+import com.ars.backend.dto.StudentResponse;
+import com.ars.backend.enumeration.DataFormat;
+import com.ars.backend.enumeration.Level;
+import com.ars.backend.repository.StudentJdbcRepository;
+import com.ars.backend.service.StudentExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes the roster straight from a JDBC cursor to the output stream. Rows are never collected
+ * and no entities are managed, so memory use does not depend on how many students are exported.
+ */
+@Service
+@RequiredArgsConstructor
+public class StudentExportServiceImpl implements StudentExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final StudentJdbcRepository studentJdbcRepository;
+    private final ObjectMapper objectMapper;
+    private final StudentExportProperties properties;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportStudents(Level level, DataFormat format, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+        AtomicLong rows = new AtomicLong();
+
+        if (format == DataFormat.CSV) {
+            writer.write("id,username,level\n");
+        }
+        try {
+            studentJdbcRepository.streamAll(level, properties.getFetchSize(), student -> {
+                try {
+                    writer.write(format == DataFormat.CSV ? toCsv(student) : toJson(student));
+                    writer.write('\n');
+                    rows.incrementAndGet();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+
+        writer.flush();
+        return rows.get();
+    }
+
+    private String toJson(StudentResponse student) {
+        return objectMapper.writeValueAsString(student);
+    }
+
+    private static String toCsv(StudentResponse student) {
+        return student.id() + "," + escapeCsv(student.username()) + "," + student.level().name();
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
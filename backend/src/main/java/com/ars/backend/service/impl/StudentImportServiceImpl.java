@@ -0,0 +1,254 @@
+package com.ars.backend.service.impl;
+
+import com.ars.backend.config.StudentImportProperties;
+import com.ars.backend.dto.StudentImportError;
+import com.ars.backend.dto.StudentImportResult;
+import com.ars.backend.dto.StudentRequest;
+import com.ars.backend.entity.Student;
+import com.ars.backend.enumeration.DataFormat;
+import com.ars.backend.enumeration.Level;
+import com.ars.backend.event.StudentChangedEvent;
+import com.ars.backend.mapper.StudentMapper;
+import com.ars.backend.repository.StudentJdbcRepository;
+import com.ars.backend.repository.StudentRepository;
+import com.ars.backend.service.StudentImportService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Streams CSV or NDJSON rows into student_tbl in chunks. Each chunk is validated in parallel,
+ * checked for existing usernames with one IN query and written as one JDBC batch with ids
+ * reserved up front, all inside its own transaction. Rows that fail are reported by line.
+ */
+@Service
+@RequiredArgsConstructor
+public class StudentImportServiceImpl implements StudentImportService {
+
+    private final StudentRepository studentRepository;
+    private final StudentJdbcRepository studentJdbcRepository;
+    private final StudentMapper studentMapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StudentImportProperties properties;
+
+    @Override
+    public StudentImportResult importStudents(InputStream input, DataFormat format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<StudentImportError> errors = new ArrayList<>();
+        Set<String> seenUsernames = new HashSet<>();
+        List<ImportRow> chunk = new ArrayList<>(properties.getChunkSize());
+        CsvColumns columns = null;
+        long lineNumber = 0;
+        long totalRows = 0;
+        long imported = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == DataFormat.CSV && columns == null) {
+                columns = CsvColumns.detect(splitCsv(line));
+                if (columns.header()) {
+                    continue;
+                }
+            }
+
+            totalRows++;
+            chunk.add(format == DataFormat.CSV ? parseCsv(lineNumber, line, columns) : parseJson(lineNumber, line));
+            if (chunk.size() == properties.getChunkSize()) {
+                imported += importChunk(chunk, seenUsernames, errors);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            imported += importChunk(chunk, seenUsernames, errors);
+        }
+
+        return new StudentImportResult(totalRows, imported, totalRows - imported, errors);
+    }
+
+    private long importChunk(List<ImportRow> chunk, Set<String> seenUsernames, List<StudentImportError> errors) {
+        // Bean validation is CPU-only, so the rows of a chunk are checked in parallel
+        List<ImportRow> validated = chunk.parallelStream()
+                .map(this::validate)
+                .toList();
+
+        List<ImportRow> candidates = new ArrayList<>(validated.size());
+        for (ImportRow row : validated) {
+            if (row.error() != null) {
+                errors.add(row.toError());
+            } else if (!seenUsernames.add(row.request().username())) {
+                errors.add(row.withError("Duplicate username in import").toError());
+            } else {
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        Long inserted = transactionTemplate.execute(status -> insertChunk(candidates, errors));
+        return inserted != null ? inserted : 0;
+    }
+
+    private long insertChunk(List<ImportRow> candidates, List<StudentImportError> errors) {
+        Set<String> existing = new HashSet<>(studentRepository.findExistingUsernames(
+                candidates.stream().map(row -> row.request().username()).toList()));
+
+        List<ImportRow> rows = new ArrayList<>(candidates.size());
+        for (ImportRow row : candidates) {
+            if (existing.contains(row.request().username())) {
+                errors.add(row.withError(alreadyExists(row)).toError());
+            } else {
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = studentJdbcRepository.nextIds(rows.size());
+        List<Student> students = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Student student = studentMapper.toEntity(rows.get(i).request());
+            student.setId(ids.get(i));
+            // Written by insertAll, so the CREATED event carries the version the row starts at
+            student.setVersion(0L);
+            students.add(student);
+        }
+
+        int[] counts = studentJdbcRepository.insertAll(students);
+        long inserted = 0;
+        for (int i = 0; i < students.size(); i++) {
+            // 0 means ON CONFLICT skipped the row: another writer took the username after our check
+            if (counts[i] == 0) {
+                errors.add(rows.get(i).withError(alreadyExists(rows.get(i))).toError());
+            } else {
+                inserted++;
+                eventPublisher.publishEvent(StudentChangedEvent.created(studentMapper.toResponse(students.get(i))));
+            }
+        }
+        return inserted;
+    }
+
+    private ImportRow validate(ImportRow row) {
+        if (row.error() != null) {
+            return row;
+        }
+        Set<ConstraintViolation<StudentRequest>> violations = validator.validate(row.request());
+        if (violations.isEmpty()) {
+            return row;
+        }
+        return row.withError(violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", ")));
+    }
+
+    private ImportRow parseCsv(long lineNumber, String line, CsvColumns columns) {
+        List<String> fields = splitCsv(line);
+        String username = columns.username() < fields.size() ? fields.get(columns.username()).trim() : null;
+        String level = columns.level() < fields.size() ? fields.get(columns.level()).trim() : null;
+        try {
+            Level parsedLevel = level == null || level.isEmpty() ? null : Level.valueOf(level.toUpperCase(Locale.ROOT));
+            return new ImportRow(lineNumber, new StudentRequest(parsedLevel, username), null);
+        } catch (IllegalArgumentException ex) {
+            return new ImportRow(lineNumber, new StudentRequest(null, username), "Unknown level: " + level);
+        }
+    }
+
+    private ImportRow parseJson(long lineNumber, String line) {
+        try {
+            StudentRequest request = objectMapper.readValue(line, StudentRequest.class);
+            // A bare null is valid JSON and reads as no object rather than failing
+            if (request == null) {
+                return new ImportRow(lineNumber, new StudentRequest(null, null), "Expected a JSON object");
+            }
+            return new ImportRow(lineNumber, request, null);
+        } catch (JacksonException ex) {
+            return new ImportRow(lineNumber, new StudentRequest(null, null), "Malformed JSON: " + ex.getOriginalMessage());
+        }
+    }
+
+    private static String alreadyExists(ImportRow row) {
+        return "Student with username '" + row.request().username() + "' already exists";
+    }
+
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private record ImportRow(long line, StudentRequest request, String error) {
+
+        ImportRow withError(String message) {
+            return new ImportRow(line, request, message);
+        }
+
+        StudentImportError toError() {
+            return new StudentImportError(line, request.username(), error);
+        }
+    }
+
+    /**
+     * Column positions for CSV input. A first line naming both columns is a header; otherwise
+     * rows are read as username,level.
+     */
+    private record CsvColumns(int username, int level, boolean header) {
+
+        static CsvColumns detect(List<String> firstRow) {
+            List<String> names = firstRow.stream()
+                    .map(name -> name.trim().toLowerCase(Locale.ROOT))
+                    .toList();
+            if (names.contains("username") && names.contains("level")) {
+                return new CsvColumns(names.indexOf("username"), names.indexOf("level"), true);
+            }
+            return new CsvColumns(0, 1, false);
+        }
+    }
+}
@@ -1,93 +1,341 @@
 package com.ars.backend.service.impl;
 
+import com.ars.backend.cache.StudentCache;
+import com.ars.backend.dto.CursorPage;
+import com.ars.backend.dto.StudentBatchDeleteRequest;
+import com.ars.backend.dto.StudentBatchOutcome;
+import com.ars.backend.dto.StudentBatchResult;
+import com.ars.backend.dto.StudentBatchUpdateRequest;
+import com.ars.backend.dto.StudentFilter;
 import com.ars.backend.dto.StudentRequest;
 import com.ars.backend.dto.StudentResponse;
+import com.ars.backend.dto.StudentStatisticsResponse;
+import com.ars.backend.dto.StudentUpsertResult;
 import com.ars.backend.entity.Student;
 import com.ars.backend.enumeration.Level;
+import com.ars.backend.event.StudentChangedEvent;
+import com.ars.backend.exception.BadRequestException;
 import com.ars.backend.exception.DuplicateResourceException;
+import com.ars.backend.exception.PreconditionFailedException;
 import com.ars.backend.exception.ResourceNotFoundException;
+import com.ars.backend.exception.UniqueConstraints;
 import com.ars.backend.mapper.StudentMapper;
+import com.ars.backend.repository.StudentJdbcRepository;
+import com.ars.backend.repository.StudentJdbcRepository.UpdatedStudent;
+import com.ars.backend.repository.StudentJdbcRepository.UpsertedStudent;
+import com.ars.backend.repository.StudentJdbcRepository.VersionedUpdate;
 import com.ars.backend.repository.StudentRepository;
+import com.ars.backend.search.StudentSearchIndex;
 import com.ars.backend.service.StudentService;
+import com.ars.backend.statistics.StudentStatistics;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class StudentServiceImpl implements StudentService {
 
+    private static final Set<String> CURSOR_SORT_KEYS = Set.of("id", "username");
+    // Bounds the rows one keyset query can pull into memory, and keeps size + 1 from overflowing
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
     private final StudentRepository studentRepository;
+    private final StudentJdbcRepository studentJdbcRepository;
     private final StudentMapper studentMapper;
+    private final StudentSearchIndex studentSearchIndex;
+    private final StudentCache studentCache;
+    private final StudentStatistics studentStatistics;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
     public Page<StudentResponse> getAllStudents(Pageable pageable) {
-        return studentRepository.findAll(pageable)
-                .map(studentMapper::toResponse);
+        return studentRepository.findResponsesBy(pageable);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public StudentResponse getStudentById(Long id) {
-        Student student = studentRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + id));
-        return studentMapper.toResponse(student);
+        // Cache hits never open a transaction or take a connection
+        return studentCache.get(id, key -> studentRepository.findResponseById(key)
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + key)));
     }
 
     @Override
     public StudentResponse createStudent(StudentRequest request) {
-        // Check for duplicate username
-        studentRepository.findByUsername(request.username())
-                .ifPresent(s -> {
-                    throw new DuplicateResourceException("Student with username '" + request.username() + "' already exists");
-                });
-
         Student student = studentMapper.toEntity(request);
-        Student savedStudent = studentRepository.save(student);
-        return studentMapper.toResponse(savedStudent);
+        Student savedStudent;
+        try {
+            // The unique constraint on username is the duplicate check: one INSERT, no race window
+            savedStudent = studentRepository.saveAndFlush(student);
+        } catch (DataIntegrityViolationException ex) {
+            if (UniqueConstraints.isViolation(ex)) {
+                throw new DuplicateResourceException("Student with username '" + request.username() + "' already exists");
+            }
+            throw ex;
+        }
+
+        StudentResponse response = studentMapper.toResponse(savedStudent);
+        eventPublisher.publishEvent(StudentChangedEvent.created(response));
+        return response;
     }
 
     @Override
-    public StudentResponse updateStudent(Long id, StudentRequest request) {
-        Student student = studentRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + id));
+    public StudentUpsertResult upsertStudent(StudentRequest request) {
+        UpsertedStudent upserted = studentJdbcRepository.upsert(studentMapper.toEntity(request));
+        StudentResponse response = upserted.student();
+        eventPublisher.publishEvent(upserted.inserted()
+                ? StudentChangedEvent.created(response)
+                : StudentChangedEvent.updated(response, upserted.previousLevel()));
+        return new StudentUpsertResult(response, upserted.inserted());
+    }
 
-        // Check if new username conflicts with another student
-        studentRepository.findByUsername(request.username())
-                .ifPresent(existing -> {
-                    if (!existing.getId().equals(id)) {
-                        throw new DuplicateResourceException("Student with username '" + request.username() + "' already exists");
-                    }
-                });
+    @Override
+    public StudentResponse updateStudent(Long id, StudentRequest request, Collection<Long> expectedVersions) {
+        Optional<VersionedUpdate> result;
+        try {
+            // One statement: no row means no such id, a unique violation means the username is taken,
+            // and a row that was not applied failed the If-Match version check
+            result = studentJdbcRepository.update(id, request.username(), request.level(), expectedVersions);
+        } catch (DataIntegrityViolationException ex) {
+            if (UniqueConstraints.isViolation(ex)) {
+                throw new DuplicateResourceException("Student with username '" + request.username() + "' already exists");
+            }
+            throw ex;
+        }
+        VersionedUpdate update = result
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + id));
+        if (!update.applied()) {
+            throw new PreconditionFailedException("Student with id " + id + " is at version " + update.version());
+        }
 
-        studentMapper.updateEntity(student, request);
-        Student updatedStudent = studentRepository.save(student);
-        return studentMapper.toResponse(updatedStudent);
+        StudentResponse response = new StudentResponse(id, request.username(), request.level(), update.version());
+        eventPublisher.publishEvent(StudentChangedEvent.updated(response, update.previousLevel()));
+        return response;
     }
 
     @Override
     public void deleteStudent(Long id) {
-        if (!studentRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Student not found with id: " + id);
+        Level level = studentJdbcRepository.delete(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + id));
+        eventPublisher.publishEvent(StudentChangedEvent.deleted(id, level));
+    }
+
+    @Override
+    public StudentBatchResult updateStudentsLevel(StudentBatchUpdateRequest request) {
+        List<UpdatedStudent> updated = request.ids() != null
+                ? batchIds(request.ids(), request.filter(), ids -> studentJdbcRepository.updateLevelByIds(ids, request.level()))
+                : studentJdbcRepository.updateLevelByFilter(requireFilter(request.filter()), request.level());
+
+        updated.forEach(row -> eventPublisher.publishEvent(StudentChangedEvent.updated(row.student(), row.previousLevel())));
+        return batchResult(request.ids(), updated.stream().map(UpdatedStudent::student).toList(), StudentBatchOutcome.Status.UPDATED);
+    }
+
+    @Override
+    public StudentBatchResult deleteStudents(StudentBatchDeleteRequest request) {
+        List<StudentResponse> deleted = request.ids() != null
+                ? batchIds(request.ids(), request.filter(), studentJdbcRepository::deleteByIds)
+                : studentJdbcRepository.deleteByFilter(requireFilter(request.filter()));
+
+        deleted.forEach(student -> eventPublisher.publishEvent(StudentChangedEvent.deleted(student.id(), student.level())));
+        return batchResult(request.ids(), deleted, StudentBatchOutcome.Status.DELETED);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public StudentStatisticsResponse getStatistics() {
+        // Counters are seeded on startup; only a request that arrives before that pays for the GROUP BY
+        if (!studentStatistics.isReady()) {
+            studentStatistics.reconcile();
+        }
+        return studentStatistics.get();
+    }
+
+    private static <T> List<T> batchIds(List<Long> ids, StudentFilter filter, Function<Set<Long>, List<T>> statement) {
+        if (filter != null) {
+            throw new BadRequestException("Specify either ids or a filter, not both");
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return statement.apply(new LinkedHashSet<>(ids));
+    }
+
+    private static StudentFilter requireFilter(StudentFilter filter) {
+        if (filter == null || filter.isEmpty()) {
+            throw new BadRequestException("Specify ids or a filter with a level or search term");
+        }
+        return filter;
+    }
+
+    /**
+     * Reports one outcome per requested id, in request order, or one per affected row when the
+     * batch was selected by a filter.
+     */
+    private static StudentBatchResult batchResult(List<Long> requestedIds, List<StudentResponse> affected,
+                                                  StudentBatchOutcome.Status status) {
+        Set<Long> affectedIds = new LinkedHashSet<>();
+        affected.forEach(student -> affectedIds.add(student.id()));
+        Set<Long> outcomeIds = requestedIds != null ? new LinkedHashSet<>(requestedIds) : affectedIds;
+
+        List<StudentBatchOutcome> outcomes = new ArrayList<>(outcomeIds.size());
+        for (Long id : outcomeIds) {
+            outcomes.add(new StudentBatchOutcome(id, affectedIds.contains(id) ? status : StudentBatchOutcome.Status.NOT_FOUND));
         }
-        studentRepository.deleteById(id);
+        return new StudentBatchResult(affectedIds.size(), outcomeIds.size() - affectedIds.size(), outcomes);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Page<StudentResponse> searchStudents(String search, Pageable pageable) {
-        return studentRepository.searchByUsernameOrId(search, pageable)
-                .map(studentMapper::toResponse);
+        // Served from the in-memory index once it is built; no connection is taken on that path
+        if (studentSearchIndex.isReady()) {
+            return studentSearchIndex.search(search, pageable);
+        }
+        return studentRepository.searchByUsernameOrId(StudentRepository.escapeLike(search), pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<StudentResponse> getStudentsByLevel(Level level, Pageable pageable) {
-        return studentRepository.findByLevel(level, pageable)
-                .map(studentMapper::toResponse);
+        return studentRepository.findByLevel(level, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<StudentResponse> getAllStudentsSlice(Pageable pageable) {
+        return studentRepository.findSliceBy(pageable);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Slice<StudentResponse> searchStudentsSlice(String search, Pageable pageable) {
+        if (studentSearchIndex.isReady()) {
+            Page<StudentResponse> page = studentSearchIndex.search(search, pageable);
+            return new SliceImpl<>(page.getContent(), pageable, page.hasNext());
+        }
+        return studentRepository.searchSliceByUsernameOrId(StudentRepository.escapeLike(search), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<StudentResponse> getStudentsByLevelSlice(Level level, Pageable pageable) {
+        return studentRepository.findSliceByLevel(level, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<StudentResponse> getAllStudentsWithEstimatedTotal(Pageable pageable) {
+        return withEstimatedTotal(studentRepository.findSliceBy(pageable), pageable, () -> {
+            Long estimate = studentRepository.estimateCount();
+            return estimate != null && estimate >= 0 ? estimate : studentRepository.count();
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<StudentResponse> getStudentsByLevelWithEstimatedTotal(Level level, Pageable pageable) {
+        return withEstimatedTotal(studentRepository.findSliceByLevel(level, pageable), pageable,
+                () -> studentRepository.estimateCountByLevel(level.name())
+                        .orElseGet(() -> studentRepository.countByLevel(level)));
+    }
+
+    /**
+     * Builds a page from a slice. The total is exact on the last page and only consults the
+     * estimate when there are more rows, never letting it fall below what has been seen.
+     */
+    private static Page<StudentResponse> withEstimatedTotal(Slice<StudentResponse> slice, Pageable pageable, LongSupplier estimate) {
+        List<StudentResponse> content = slice.getContent();
+        long seen = pageable.getOffset() + content.size();
+        long total = slice.hasNext()
+                ? Math.max(estimate.getAsLong(), seen + 1)
+                : seen;
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<StudentResponse> getStudentsAfter(String after, int size, String sortBy, Sort.Direction direction) {
+        return getCursorPage(null, after, size, sortBy, direction);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<StudentResponse> getStudentsByLevelAfter(Level level, String after, int size, String sortBy, Sort.Direction direction) {
+        return getCursorPage(level, after, size, sortBy, direction);
+    }
+
+    private CursorPage<StudentResponse> getCursorPage(Level level, String after, int size, String sortBy, Sort.Direction direction) {
+        if (!CURSOR_SORT_KEYS.contains(sortBy)) {
+            throw new BadRequestException("Cursor pagination supports sorting by " + CURSOR_SORT_KEYS + " only");
+        }
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        StudentCursor cursor = after != null ? StudentCursor.decode(after) : null;
+        if (cursor != null && (!cursor.sortBy().equals(sortBy) || cursor.direction() != direction)) {
+            throw new BadRequestException("Cursor does not match the requested sort");
+        }
+
+        // Both sort keys are unique, so a single-column seek predicate is enough; one extra row tells us if there is a next page
+        Pageable limit = PageRequest.of(0, size + 1, Sort.by(direction, sortBy));
+        List<StudentResponse> rows = seek(level, cursor, limit);
+
+        boolean hasNext = rows.size() > size;
+        List<StudentResponse> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext
+                ? StudentCursor.after(content.getLast(), sortBy, direction).encode()
+                : null;
+        return new CursorPage<>(content, size, nextCursor, hasNext);
+    }
+
+    private List<StudentResponse> seek(Level level, StudentCursor cursor, Pageable limit) {
+        if (cursor == null) {
+            return level == null
+                    ? studentRepository.findAllBy(limit)
+                    : studentRepository.findAllByLevel(level, limit);
+        }
+
+        boolean ascending = cursor.direction().isAscending();
+        if ("id".equals(cursor.sortBy())) {
+            if (level == null) {
+                return ascending
+                        ? studentRepository.findByIdGreaterThan(cursor.id(), limit)
+                        : studentRepository.findByIdLessThan(cursor.id(), limit);
+            }
+            return ascending
+                    ? studentRepository.findByLevelAndIdGreaterThan(level, cursor.id(), limit)
+                    : studentRepository.findByLevelAndIdLessThan(level, cursor.id(), limit);
+        }
+
+        if (level == null) {
+            return ascending
+                    ? studentRepository.findByUsernameGreaterThan(cursor.value(), limit)
+                    : studentRepository.findByUsernameLessThan(cursor.value(), limit);
+        }
+        return ascending
+                ? studentRepository.findByLevelAndUsernameGreaterThan(level, cursor.value(), limit)
+                : studentRepository.findByLevelAndUsernameLessThan(level, cursor.value(), limit);
     }
 }
@@ -0,0 +1,118 @@
+package com.ars.backend.statistics;
+
+import com.ars.backend.dto.LevelCount;
+import com.ars.backend.dto.StudentStatisticsResponse;
+import com.ars.backend.enumeration.Level;
+import com.ars.backend.event.StudentChangedEvent;
+import com.ars.backend.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-level student counts kept in memory. Counters move with every committed change event,
+ * so reads never touch the database; a periodic GROUP BY reconciles them against the table to
+ * correct any drift (writes that bypass the service, or a lost event).
+ * <p>
+ * Events and reconciliation exclude each other: events take the shared side of a read-write
+ * lock, reconcile the exclusive side for the length of its query, so an event cannot be
+ * applied to the counters and also be part of the count that replaces them. An event whose
+ * transaction committed just before the query but whose listener had not run yet is still
+ * counted twice; the next reconcile corrects it.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudentStatistics {
+
+    private final StudentRepository studentRepository;
+
+    private final Map<Level, LongAdder> counts = newCounters();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Instant reconciledAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${students.statistics.reconcile-interval}",
+            fixedDelayString = "${students.statistics.reconcile-interval}"
+    )
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        // Events wait for the query, so the counters can simply be overwritten with its result
+        lock.writeLock().lock();
+        try {
+            Map<Level, Long> actual = new EnumMap<>(Level.class);
+            for (Level level : Level.values()) {
+                actual.put(level, 0L);
+            }
+            for (LevelCount row : studentRepository.countGroupedByLevel()) {
+                actual.put(row.level(), row.count());
+            }
+            actual.forEach((level, count) -> {
+                LongAdder counter = counts.get(level);
+                counter.reset();
+                counter.add(count);
+            });
+            reconciledAt = Instant.now();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        lock.readLock().lock();
+        try {
+            switch (event.type()) {
+                case CREATED -> increment(event.student().level(), 1);
+                case UPDATED -> {
+                    if (event.previousLevel() != event.student().level()) {
+                        increment(event.previousLevel(), -1);
+                        increment(event.student().level(), 1);
+                    }
+                }
+                case DELETED -> increment(event.previousLevel(), -1);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return reconciledAt != null;
+    }
+
+    public StudentStatisticsResponse get() {
+        Map<Level, Long> byLevel = snapshot();
+        long total = byLevel.values().stream().mapToLong(Long::longValue).sum();
+        return new StudentStatisticsResponse(total, byLevel, reconciledAt);
+    }
+
+    private void increment(Level level, long delta) {
+        counts.get(level).add(delta);
+    }
+
+    private Map<Level, Long> snapshot() {
+        Map<Level, Long> snapshot = new EnumMap<>(Level.class);
+        counts.forEach((level, count) -> snapshot.put(level, count.sum()));
+        return snapshot;
+    }
+
+    private static Map<Level, LongAdder> newCounters() {
+        Map<Level, LongAdder> counters = new EnumMap<>(Level.class);
+        for (Level level : Level.values()) {
+            counters.put(level, new LongAdder());
+        }
+        return counters;
+    }
+}
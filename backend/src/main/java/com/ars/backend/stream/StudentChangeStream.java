@@ -0,0 +1,246 @@
+package com.ars.backend.stream;
+
+import com.ars.backend.config.StudentStreamProperties;
+import com.ars.backend.enumeration.Level;
+import com.ars.backend.event.StudentChangedEvent;
+import com.ars.backend.exception.TooManyRequestsException;
+import com.ars.backend.security.TokenRevocationList;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes committed student changes to Server-Sent Events subscribers.
+ * <p>
+ * Connections are async servlet requests, so an idle subscriber holds no thread. Each subscriber
+ * has a bounded queue filled by the committing thread without blocking; a virtual thread is
+ * started only while a queue has something to send, so one slow socket never stalls the others.
+ * A subscriber whose queue overflows is disconnected and counted in
+ * {@code students.stream.dropped}; it reconnects and reloads. Heartbeat comments go through the
+ * same queues every {@code students.stream.heartbeat-interval}; each heartbeat also closes the
+ * streams whose token has expired or been revoked since they were opened.
+ */
+@Component
+public class StudentChangeStream implements SmartLifecycle {
+
+    // Built once: a built event is just its data items and can be sent to any number of emitters
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final StudentStreamProperties properties;
+    private final TokenRevocationList tokenRevocationList;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // One permit per open stream, taken before the subscriber is added so the cap cannot be overshot
+    private final Semaphore slots;
+    private final Counter dropped;
+    private volatile ExecutorService senders;
+    private volatile ScheduledExecutorService heartbeats;
+
+    public StudentChangeStream(StudentStreamProperties properties, TokenRevocationList tokenRevocationList, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.tokenRevocationList = tokenRevocationList;
+        this.slots = new Semaphore(properties.getMaximumSubscribers());
+        this.dropped = Counter.builder("students.stream.dropped")
+                .description("Subscribers disconnected because they fell behind")
+                .register(meterRegistry);
+        Gauge.builder("students.stream.subscribers", subscribers, Set::size)
+                .description("Open student change streams")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream of changes to students at one of {@code levels} (before or after the
+     * change); an empty set means every level. The stream is closed once the token it was
+     * opened with, identified by {@code tokenId}, is revoked or reaches {@code expiresAt}.
+     */
+    public SseEmitter subscribe(Set<Level> levels, String tokenId, Instant expiresAt) {
+        if (!slots.tryAcquire()) {
+            throw new TooManyRequestsException("Too many open student streams", Duration.ofSeconds(30));
+        }
+        SseEmitter emitter = newEmitter(properties.getTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter, Set.copyOf(levels), tokenId, expiresAt, new ArrayBlockingQueue<>(properties.getBufferSize()));
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(error -> close(subscriber));
+        subscribers.add(subscriber);
+        // Flushes the response headers so the client sees the stream open straight away
+        enqueue(subscriber, HEARTBEAT);
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onStudentChanged(StudentChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> message = SseEmitter.event()
+                .name(event.type().name().toLowerCase(Locale.ROOT))
+                .data(event, MediaType.APPLICATION_JSON)
+                .build();
+        Level level = event.student() != null ? event.student().level() : null;
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.accepts(level, event.previousLevel())) {
+                enqueue(subscriber, message);
+            }
+        }
+    }
+
+    public int size() {
+        return subscribers.size();
+    }
+
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    @Override
+    public void start() {
+        senders = Executors.newVirtualThreadPerTaskExecutor();
+        long interval = properties.getHeartbeatInterval().toMillis();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("student-stream-heartbeat").daemon(true).factory());
+        scheduler.scheduleWithFixedDelay(this::heartbeat, interval, interval, TimeUnit.MILLISECONDS);
+        heartbeats = scheduler;
+    }
+
+    // Runs before the web server's graceful shutdown, which would otherwise wait for every open stream
+    @Override
+    public void stop() {
+        ScheduledExecutorService scheduler = heartbeats;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            heartbeats = null;
+        }
+        subscribers.forEach(this::close);
+        ExecutorService executor = senders;
+        if (executor != null) {
+            // Every emitter is complete, so sends still in flight can only fail
+            executor.shutdownNow();
+            senders = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return heartbeats != null;
+    }
+
+    private void heartbeat() {
+        Instant now = Instant.now();
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.expiresAt().isAfter(now) || tokenRevocationList.isRevoked(subscriber.tokenId())) {
+                close(subscriber);
+            } else {
+                enqueue(subscriber, HEARTBEAT);
+            }
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> message) {
+        if (!subscriber.queue().offer(message)) {
+            dropped.increment();
+            close(subscriber);
+            return;
+        }
+        if (subscriber.sending().compareAndSet(false, true)) {
+            ExecutorService executor = senders;
+            try {
+                if (executor == null) {
+                    throw new RejectedExecutionException("Student change stream is stopped");
+                }
+                executor.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException ex) {
+                // Subscribed while shutting down: nothing will ever send, so end the stream now
+                subscriber.sending().set(false);
+                close(subscriber);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            Set<ResponseBodyEmitter.DataWithMediaType> message;
+            while ((message = subscriber.queue().poll()) != null) {
+                try {
+                    subscriber.emitter().send(message);
+                } catch (IOException | IllegalStateException ex) {
+                    // Client went away or the emitter already completed
+                    unregister(subscriber);
+                    subscriber.queue().clear();
+                    return;
+                }
+            }
+            subscriber.sending().set(false);
+            // A message queued after the last poll but before the flag was cleared has no sender yet
+        } while (!subscriber.queue().isEmpty() && subscriber.sending().compareAndSet(false, true));
+    }
+
+    private void close(Subscriber subscriber) {
+        if (unregister(subscriber)) {
+            subscriber.queue().clear();
+            subscriber.emitter().complete();
+        }
+    }
+
+    // Every path that ends a stream goes through here, so its slot is released exactly once
+    private boolean unregister(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            slots.release();
+            return true;
+        }
+        return false;
+    }
+
+    private record Subscriber(
+            SseEmitter emitter,
+            Set<Level> levels,
+            String tokenId,
+            Instant expiresAt,
+            BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue,
+            AtomicBoolean sending
+    ) {
+
+        Subscriber(SseEmitter emitter, Set<Level> levels, String tokenId, Instant expiresAt,
+                   BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue) {
+            this(emitter, levels, tokenId, expiresAt, queue, new AtomicBoolean());
+        }
+
+        boolean accepts(Level level, Level previousLevel) {
+            return levels.isEmpty()
+                    || (level != null && levels.contains(level))
+                    || (previousLevel != null && levels.contains(previousLevel));
+        }
+
+        // Identity semantics: two subscribers are never equal, even with the same filter
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
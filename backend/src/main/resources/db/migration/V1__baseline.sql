@@ -0,0 +1,15 @@
+-- Schema as previously generated by Hibernate (ddl-auto: update). Existing databases are
+-- baselined at this version, so this script only runs against an empty schema.
+
+CREATE TABLE admin_tbl (
+    id       bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username varchar(255) NOT NULL UNIQUE,
+    password varchar(255) NOT NULL
+);
+
+CREATE TABLE student_tbl (
+    id       bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username varchar(255) NOT NULL UNIQUE,
+    level    varchar(255) NOT NULL CHECK (level IN ('BACHELOR', 'MASTER', 'ENGINEER', 'DOCTORATE')),
+    version  bigint       NOT NULL DEFAULT 0
+);
@@ -0,0 +1,12 @@
+-- Databases baselined from ddl-auto may predate the version column
+ALTER TABLE student_tbl ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+
+-- Level pages, slices and keyset pages: filter on level, order (and seek) by id or username
+CREATE INDEX IF NOT EXISTS student_level_id_idx ON student_tbl (level, id);
+CREATE INDEX IF NOT EXISTS student_level_username_idx ON student_tbl (level, username);
+
+-- Case-insensitive substring search on the lower-cased username, and substring search on the id.
+-- The expressions match what the search queries compare, so the OR becomes a BitmapOr of both.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS student_username_lower_trgm_idx ON student_tbl USING gin (lower(username) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS student_id_trgm_idx ON student_tbl USING gin (CAST(id AS varchar) gin_trgm_ops);
@@ -0,0 +1,7 @@
+-- Ids (jti) of tokens revoked before their expiry; rows are purged once the token has expired
+CREATE TABLE revoked_token_tbl (
+    jti        varchar(64)              PRIMARY KEY,
+    expires_at timestamp with time zone NOT NULL
+);
+
+CREATE INDEX revoked_token_expires_at_idx ON revoked_token_tbl (expires_at);
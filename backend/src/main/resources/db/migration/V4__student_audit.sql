@@ -0,0 +1,24 @@
+-- Who created, updated or deleted which student. Written in batches by the audit writer and
+-- never changed afterwards: the trigger rejects updates and deletes.
+CREATE TABLE student_audit_tbl (
+    id             bigint GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    occurred_at    timestamp with time zone NOT NULL,
+    actor          varchar(255)             NOT NULL,
+    action         varchar(16)              NOT NULL CHECK (action IN ('CREATED', 'UPDATED', 'DELETED')),
+    student_id     bigint                   NOT NULL,
+    username       varchar(255),
+    level          varchar(255),
+    previous_level varchar(255)
+);
+
+CREATE INDEX student_audit_student_id_idx ON student_audit_tbl (student_id, occurred_at);
+
+CREATE FUNCTION student_audit_append_only() RETURNS trigger AS $$
+BEGIN
+    RAISE EXCEPTION 'student_audit_tbl is append-only';
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER student_audit_append_only
+    BEFORE UPDATE OR DELETE ON student_audit_tbl
+    FOR EACH ROW EXECUTE FUNCTION student_audit_append_only();
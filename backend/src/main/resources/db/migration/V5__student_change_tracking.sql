@@ -0,0 +1,57 @@
+-- Delta sync: every insert or update stamps the row with the writing transaction and a change
+-- sequence, and every delete leaves a tombstone stamped the same way. Clients page by
+-- (change_xid, change_seq) and only read changes of transactions older than any still running,
+-- so a change can never commit behind a position a client has already passed.
+CREATE SEQUENCE student_change_seq;
+
+ALTER TABLE student_tbl
+    ADD COLUMN change_xid xid8   NOT NULL DEFAULT '0',
+    ADD COLUMN change_seq bigint NOT NULL DEFAULT nextval('student_change_seq');
+
+CREATE INDEX student_change_idx ON student_tbl (change_xid, change_seq);
+
+CREATE TABLE student_tombstone_tbl (
+    student_id bigint                   PRIMARY KEY,
+    change_xid xid8                     NOT NULL,
+    change_seq bigint                   NOT NULL,
+    deleted_at timestamp with time zone NOT NULL
+);
+
+CREATE INDEX student_tombstone_change_idx ON student_tombstone_tbl (change_xid, change_seq);
+CREATE INDEX student_tombstone_deleted_at_idx ON student_tombstone_tbl (deleted_at);
+
+-- Tokens older than the newest purged tombstone may have missed a delete and must resync
+CREATE TABLE student_sync_horizon_tbl (
+    id         int  PRIMARY KEY CHECK (id = 1),
+    purged_xid xid8 NOT NULL
+);
+
+INSERT INTO student_sync_horizon_tbl (id, purged_xid) VALUES (1, '0');
+
+CREATE FUNCTION student_track_change() RETURNS trigger AS $$
+BEGIN
+    NEW.change_xid := pg_current_xact_id();
+    NEW.change_seq := nextval('student_change_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER student_track_change
+    BEFORE INSERT OR UPDATE ON student_tbl
+    FOR EACH ROW EXECUTE FUNCTION student_track_change();
+
+CREATE FUNCTION student_track_delete() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO student_tombstone_tbl (student_id, change_xid, change_seq, deleted_at)
+    VALUES (OLD.id, pg_current_xact_id(), nextval('student_change_seq'), now())
+    ON CONFLICT (student_id) DO UPDATE
+        SET change_xid = EXCLUDED.change_xid,
+            change_seq = EXCLUDED.change_seq,
+            deleted_at = EXCLUDED.deleted_at;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER student_track_delete
+    AFTER DELETE ON student_tbl
+    FOR EACH ROW EXECUTE FUNCTION student_track_delete();
@@ -0,0 +1,96 @@
+package com.ars.backend.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MpscRingBuffer Tests")
+class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("Should reject offers when full and accept them again once drained")
+    void offer_Full_RejectsUntilDrained() {
+        // Given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        // When
+        boolean overflow = buffer.offer(4);
+        List<Integer> drained = new ArrayList<>();
+        int count = buffer.drainTo(drained, 2);
+
+        // Then
+        assertThat(overflow).isFalse();
+        assertThat(count).isEqualTo(2);
+        assertThat(drained).containsExactly(0, 1);
+        assertThat(buffer.size()).isEqualTo(2);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.offer(5)).isTrue();
+        assertThat(buffer.offer(6)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should deliver every element from concurrent producers exactly once, in per-producer order")
+    void offer_ConcurrentProducers_NoLossOrDuplicates() throws Exception {
+        // Given
+        int producers = 8;
+        int perProducer = 50_000;
+        MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(1024);
+        long[] lastSeen = new long[producers];
+        Arrays.fill(lastSeen, -1);
+
+        // When
+        long received = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(producers)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                long producer = p;
+                futures.add(executor.submit(() -> {
+                    for (long i = 0; i < perProducer; i++) {
+                        long[] element = {producer, i};
+                        while (!buffer.offer(element)) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                }));
+            }
+
+            List<long[]> batch = new ArrayList<>();
+            while (received < (long) producers * perProducer) {
+                batch.clear();
+                buffer.drainTo(batch, 256);
+                for (long[] element : batch) {
+                    int producer = (int) element[0];
+                    assertThat(element[1]).isEqualTo(lastSeen[producer] + 1);
+                    lastSeen[producer] = element[1];
+                }
+                received += batch.size();
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // Then
+        assertThat(received).isEqualTo((long) producers * perProducer);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should require a power-of-two capacity")
+    void constructor_NonPowerOfTwo_Throws() {
+        assertThatThrownBy(() -> new MpscRingBuffer<>(1000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,169 @@
+package com.ars.backend.audit;
+
+import com.ars.backend.config.StudentAuditProperties;
+import com.ars.backend.dto.StudentResponse;
+import com.ars.backend.enumeration.Level;
+import com.ars.backend.event.StudentChangedEvent;
+import com.ars.backend.repository.StudentAuditRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StudentAuditLog Tests")
+class StudentAuditLogTest {
+
+    private StudentAuditProperties properties;
+    private RecordingRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private StudentAuditLog auditLog;
+
+    @BeforeEach
+    void setUp() {
+        properties = new StudentAuditProperties();
+        properties.setBufferCapacity(16);
+        properties.setBatchSize(4);
+        properties.setFlushInterval(Duration.ofSeconds(30));
+        properties.setOfferTimeout(Duration.ofMillis(5));
+        repository = new RecordingRepository();
+        meterRegistry = new SimpleMeterRegistry();
+        auditLog = new StudentAuditLog(repository, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        auditLog.stop();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should record the authenticated admin as the actor of a change")
+    void onStudentChanged_RecordsActor() {
+        // Given
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("admin", null, List.of()));
+        StudentResponse student = new StudentResponse(1L, "alice", Level.MASTER, 1L);
+
+        // When
+        auditLog.start();
+        auditLog.onStudentChanged(StudentChangedEvent.updated(student, Level.BACHELOR));
+        auditLog.stop();
+
+        // Then
+        assertThat(repository.entries).singleElement().satisfies(entry -> {
+            assertThat(entry.actor()).isEqualTo("admin");
+            assertThat(entry.action()).isEqualTo(StudentChangedEvent.Type.UPDATED);
+            assertThat(entry.studentId()).isEqualTo(1L);
+            assertThat(entry.level()).isEqualTo(Level.MASTER);
+            assertThat(entry.previousLevel()).isEqualTo(Level.BACHELOR);
+        });
+    }
+
+    @Test
+    @DisplayName("Should write in batches without waiting for the flush interval once a batch is full")
+    void record_FullBatch_WrittenPromptly() throws Exception {
+        // Given
+        auditLog.start();
+
+        // When
+        for (long id = 1; id <= 8; id++) {
+            auditLog.record(entry(id));
+        }
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (repository.entries.size() < 8 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Then
+        assertThat(repository.entries).hasSize(8);
+        assertThat(repository.batchSizes).allMatch(size -> size <= 4);
+        assertThat(meterRegistry.get("students.audit.written").counter().count()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should flush buffered entries on shutdown")
+    void stop_FlushesBufferedEntries() {
+        // Given
+        auditLog.start();
+        auditLog.record(entry(1));
+        auditLog.record(entry(2));
+
+        // When
+        auditLog.stop();
+
+        // Then
+        assertThat(repository.entries).extracting(StudentAuditEntry::studentId).containsExactly(1L, 2L);
+        assertThat(auditLog.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop and count entries once the buffer stays full past the offer timeout")
+    void record_BufferFull_DropsAfterTimeout() {
+        // Given: the writer is not running, so nothing drains the buffer
+        for (long id = 1; id <= 16; id++) {
+            auditLog.record(entry(id));
+        }
+
+        // When
+        auditLog.record(entry(17));
+
+        // Then
+        assertThat(auditLog.pending()).isEqualTo(16);
+        assertThat(meterRegistry.get("students.audit.dropped").tag("reason", "buffer-full").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch before giving up on it")
+    void write_TransientFailure_Retried() {
+        // Given
+        repository.failures = 1;
+        auditLog.start();
+        auditLog.record(entry(1));
+
+        // When
+        auditLog.stop();
+
+        // Then
+        assertThat(repository.entries).hasSize(1);
+        assertThat(meterRegistry.get("students.audit.dropped").tag("reason", "write-failed").counter().count())
+                .isZero();
+    }
+
+    private static StudentAuditEntry entry(long studentId) {
+        return new StudentAuditEntry(Instant.now(), "admin", StudentChangedEvent.Type.CREATED, studentId,
+                "student" + studentId, Level.BACHELOR, null);
+    }
+
+    private static final class RecordingRepository extends StudentAuditRepository {
+
+        private final List<StudentAuditEntry> entries = Collections.synchronizedList(new ArrayList<>());
+        private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        private volatile int failures;
+
+        RecordingRepository() {
+            super(null);
+        }
+
+        @Override
+        public void insertAll(List<StudentAuditEntry> batch) {
+            if (failures > 0) {
+                failures--;
+                throw new IllegalStateException("database unavailable");
+            }
+            batchSizes.add(batch.size());
+            entries.addAll(batch);
+        }
+    }
+}
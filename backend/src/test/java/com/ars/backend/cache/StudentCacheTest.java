@@ -0,0 +1,110 @@
+package com.ars.backend.cache;
+
+import com.ars.backend.config.StudentCacheProperties;
+import com.ars.backend.dto.StudentResponse;
+import com.ars.backend.enumeration.Level;
+import com.ars.backend.event.StudentChangedEvent;
+import com.ars.backend.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StudentCache Tests")
+class StudentCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StudentCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new StudentCache(new StudentCacheProperties(), meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should load a student once and serve repeats from memory")
+    void get_RepeatedId_LoadsOnce() {
+        // When
+        StudentResponse first = cache.get(1L, loader(Level.BACHELOR));
+        StudentResponse second = cache.get(1L, loader(Level.BACHELOR));
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "students", "result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "students", "result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not cache a missing student")
+    void get_LoaderThrows_NothingCached() {
+        // When & Then
+        assertThatThrownBy(() -> cache.get(9L, id -> {
+            throw new ResourceNotFoundException("Student not found with id: " + id);
+        })).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should replace cached students on update and evict them on delete")
+    void onStudentChanged_UpdatesAndEvicts() {
+        // Given
+        cache.get(1L, loader(Level.BACHELOR));
+        StudentResponse updated = new StudentResponse(1L, "student1", Level.MASTER, 1L);
+
+        // When
+        cache.onStudentChanged(StudentChangedEvent.updated(updated, Level.BACHELOR));
+
+        // Then
+        assertThat(cache.get(1L, loader(Level.DOCTORATE))).isEqualTo(updated);
+
+        // When
+        cache.onStudentChanged(StudentChangedEvent.deleted(1L, Level.MASTER));
+
+        // Then
+        assertThat(cache.get(1L, loader(Level.DOCTORATE)).level()).isEqualTo(Level.DOCTORATE);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should keep the newer version when update events arrive out of order")
+    void onStudentChanged_OlderVersion_Ignored() {
+        // Given
+        cache.get(1L, loader(Level.BACHELOR));
+        StudentResponse second = new StudentResponse(1L, "student1", Level.DOCTORATE, 2L);
+        cache.onStudentChanged(StudentChangedEvent.updated(second, Level.MASTER));
+
+        // When
+        cache.onStudentChanged(StudentChangedEvent.updated(new StudentResponse(1L, "student1", Level.MASTER, 1L), Level.BACHELOR));
+
+        // Then
+        assertThat(cache.get(1L, loader(Level.BACHELOR))).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("Should not populate the cache from updates of uncached students")
+    void onStudentChanged_UncachedUpdate_Ignored() {
+        // When
+        cache.onStudentChanged(StudentChangedEvent.created(new StudentResponse(2L, "student2", Level.MASTER, 0L)));
+        cache.onStudentChanged(StudentChangedEvent.updated(new StudentResponse(3L, "student3", Level.MASTER, 0L), Level.BACHELOR));
+
+        // Then
+        assertThat(cache.size()).isZero();
+    }
+
+    private Function<Long, StudentResponse> loader(Level level) {
+        return id -> {
+            loads.incrementAndGet();
+            return new StudentResponse(id, "student" + id, level, 0L);
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package com.ars.backend.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcurrencyLimitedDataSource Tests")
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("Should hold a permit until the connection is closed")
+    void getConnection_ReleasesPermitOnClose() throws SQLException {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+
+        // When
+        Connection first = dataSource.getConnection();
+
+        // Then
+        assertThat(dataSource.availablePermits()).isZero();
+        first.close();
+        first.close();
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+        verify(connection, times(1)).close();
+    }
+
+    @Test
+    @DisplayName("Should fail with a transient error when no permit frees up in time")
+    void getConnection_NoPermit_TimesOut() throws SQLException {
+        // Given
+        when(target.getConnection()).thenReturn(connection);
+        dataSource.getConnection();
+
+        // When & Then
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+        verify(target, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should return the permit when the pool fails")
+    void getConnection_PoolFailure_ReleasesPermit() throws SQLException {
+        // Given
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        // When & Then
+        assertThatThrownBy(() -> dataSource.getConnection()).hasMessage("pool exhausted");
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,198 @@
+package com.ars.backend.loadtest;
+
+import com.ars.backend.search.StudentSearchIndex;
+import com.ars.backend.statistics.StudentStatistics;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the application on a random port against an embedded PostgreSQL seeded with
+ * {@code loadtest.students} rows, and drives HTTP traffic at it with a registered admin's token.
+ * Subclasses describe the workload; latency per endpoint is reported and checked against the
+ * p99 budget ({@code loadtest.budget.p99Millis}, overridable per endpoint with a suffix).
+ */
+@Tag("load")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+abstract class AbstractLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractLoadTest.class);
+
+    protected static final int STUDENTS = Integer.getInteger("loadtest.students", 10_000);
+    protected static final int REQUESTS = Integer.getInteger("loadtest.requests", 20_000);
+    protected static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 32);
+    private static final long DEFAULT_P99_BUDGET_MILLIS = Long.getLong("loadtest.budget.p99Millis", 250);
+    private static final Path REPORT = Path.of("target", "load-test-report.txt");
+
+    private static EmbeddedPostgres postgres;
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StudentSearchIndex studentSearchIndex;
+
+    @Autowired
+    private StudentStatistics studentStatistics;
+
+    protected final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    protected String token;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws IOException {
+        if (postgres == null) {
+            // One database for every load test class; each class reseeds it, and cached contexts keep working
+            postgres = EmbeddedPostgres.builder().start();
+            Runtime.getRuntime().addShutdownHook(new Thread(AbstractLoadTest::stopDatabase));
+        }
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("security.jwt.secret", () -> "Q+QWv1y4J0dOEsdmDBmYFNxE15ZZW0kkfqJC+g7klDE=");
+        registry.add("security.jwt.expiration", () -> "3600000");
+    }
+
+    private static void stopDatabase() {
+        try {
+            postgres.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @BeforeAll
+    void seed() throws Exception {
+        jdbcTemplate.execute("TRUNCATE student_tbl, admin_tbl RESTART IDENTITY");
+        jdbcTemplate.update("""
+                INSERT INTO student_tbl (username, level)
+                SELECT 'student' || g, (ARRAY['BACHELOR', 'MASTER', 'ENGINEER', 'DOCTORATE'])[1 + g % 4]
+                FROM generate_series(1, ?) g
+                """, STUDENTS);
+        jdbcTemplate.execute("ANALYZE student_tbl");
+        // Both were built from the empty table on startup
+        studentSearchIndex.rebuild();
+        studentStatistics.reconcile();
+
+        HttpResponse<String> response = send("POST", "/api/auth/register",
+                "{\"username\":\"loadtest\",\"password\":\"loadtest-password\"}");
+        assertThat(response.statusCode()).isEqualTo(201);
+        token = response.body().replaceAll(".*\"accessToken\"\\s*:\\s*\"([^\"]+)\".*", "$1");
+    }
+
+    /**
+     * Runs {@code requests} operations on {@code concurrency} virtual threads, recording each
+     * under the endpoint name it returns.
+     */
+    protected Map<String, LatencyRecorder.Summary> run(int requests, int concurrency, Operation operation) throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder();
+        AtomicLong remaining = new AtomicLong(requests);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> workers = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> {
+                    while (remaining.getAndDecrement() > 0) {
+                        long began = System.nanoTime();
+                        Result result = operation.execute();
+                        recorder.record(result.endpoint(), System.nanoTime() - began, result.success());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+        return recorder.summarise(System.nanoTime() - start);
+    }
+
+    protected void report(String title, Map<String, LatencyRecorder.Summary> summaries) {
+        StringBuilder report = new StringBuilder()
+                .append(title).append(" (students=").append(STUDENTS)
+                .append(", requests=").append(REQUESTS)
+                .append(", concurrency=").append(CONCURRENCY).append(")\n");
+        summaries.forEach((endpoint, summary) -> report.append("  ").append(endpoint).append(": ").append(summary).append('\n'));
+        log.info("{}", report.toString().stripTrailing());
+        try {
+            Files.createDirectories(REPORT.getParent());
+            Files.writeString(REPORT, report + "\n", StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    protected void assertWithinBudget(Map<String, LatencyRecorder.Summary> summaries) {
+        summaries.forEach((endpoint, summary) -> {
+            long budget = Long.getLong("loadtest.budget.p99Millis." + endpoint, DEFAULT_P99_BUDGET_MILLIS);
+            assertThat(summary.errors()).as("%s errors", endpoint).isZero();
+            assertThat(summary.p99Millis()).as("%s p99 (budget %d ms)", endpoint, budget).isLessThanOrEqualTo(budget);
+        });
+    }
+
+    protected HttpResponse<String> send(String method, String path, String body) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .method(method, body != null ? HttpRequest.BodyPublishers.ofString(body) : HttpRequest.BodyPublishers.noBody());
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        try {
+            return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @FunctionalInterface
+    protected interface Operation {
+        Result execute();
+    }
+
+    protected record Result(String endpoint, boolean success) {
+
+        static Result of(String endpoint, HttpResponse<?> response, int expectedStatus) {
+            return new Result(endpoint, response.statusCode() == expectedStatus);
+        }
+    }
+}
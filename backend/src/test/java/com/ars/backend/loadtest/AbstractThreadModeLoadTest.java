@@ -0,0 +1,46 @@
+package com.ars.backend.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Same read-mostly traffic at high concurrency for each request-thread mode, so the reports of
+ * {@link PlatformThreadLoadTest} and {@link VirtualThreadLoadTest} can be compared side by side.
+ * Concurrency is {@code loadtest.highConcurrency} (default 512), well above Tomcat's 200 platform
+ * threads and the 10 pooled connections.
+ */
+abstract class AbstractThreadModeLoadTest extends AbstractLoadTest {
+
+    private static final int HIGH_CONCURRENCY = Integer.getInteger("loadtest.highConcurrency", 512);
+
+    @Test
+    @DisplayName("Read-mostly traffic at high concurrency stays within the latency budget")
+    void highConcurrency() throws Exception {
+        run(Math.min(REQUESTS / 10, 2_000), HIGH_CONCURRENCY, this::nextOperation);
+
+        Map<String, LatencyRecorder.Summary> summaries = run(REQUESTS, HIGH_CONCURRENCY, this::nextOperation);
+
+        report(mode() + " threads, concurrency=" + HIGH_CONCURRENCY, summaries);
+        assertWithinBudget(summaries);
+    }
+
+    protected abstract String mode();
+
+    private Result nextOperation() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long id = 1 + random.nextLong(STUDENTS);
+        int roll = random.nextInt(100);
+
+        if (roll < 45) {
+            return Result.of("list", send("GET", "/api/students?page=" + random.nextInt(50) + "&size=20", null), 200);
+        }
+        if (roll < 90) {
+            return Result.of("get", send("GET", "/api/students/" + id, null), 200);
+        }
+        return Result.of("update", send("PUT", "/api/students/" + id,
+                "{\"username\":\"student" + id + "\",\"level\":\"MASTER\"}"), 200);
+    }
+}
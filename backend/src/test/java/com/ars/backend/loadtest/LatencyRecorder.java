@@ -0,0 +1,73 @@
+package com.ars.backend.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects request latencies per endpoint and summarises them as throughput and percentiles.
+ * Samples are kept in full, which is fine for the request counts a load test makes.
+ */
+class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long nanos, boolean success) {
+        samples.computeIfAbsent(endpoint, key -> new Samples()).add(nanos, success);
+    }
+
+    Map<String, Summary> summarise(long elapsedNanos) {
+        Map<String, Summary> summaries = new TreeMap<>();
+        samples.forEach((endpoint, endpointSamples) -> summaries.put(endpoint, endpointSamples.summarise(elapsedNanos)));
+        return summaries;
+    }
+
+    record Summary(long requests, long errors, double throughput, double p50Millis, double p99Millis, double p999Millis) {
+
+        @Override
+        public String toString() {
+            return "requests=%d errors=%d throughput=%.1f/s p50=%.2fms p99=%.2fms p999=%.2fms"
+                    .formatted(requests, errors, throughput, p50Millis, p99Millis, p999Millis);
+        }
+    }
+
+    private static final class Samples {
+
+        private long[] nanos = new long[1024];
+        private int count;
+        private final LongAdder errors = new LongAdder();
+
+        synchronized void add(long value, boolean success) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = value;
+            if (!success) {
+                errors.increment();
+            }
+        }
+
+        synchronized Summary summarise(long elapsedNanos) {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return new Summary(
+                    count,
+                    errors.sum(),
+                    count / (elapsedNanos / 1e9),
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.99),
+                    percentile(sorted, 0.999)
+            );
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.ars.backend.loadtest;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent logins against a two-connection pool, sampling pool occupancy while they run. If a
+ * login held its connection across the BCrypt check, {@code loadtest.concurrency} logins would
+ * keep both connections busy for the whole run and the rest would time out waiting for one.
+ */
+@DisplayName("Login connection pool load test")
+@TestPropertySource(properties = {
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=1000",
+        // Every login is for the same admin from the same address
+        "security.auth.ip-burst=1000000",
+        "security.auth.username-burst=1000000"
+})
+class LoginConnectionPoolLoadTest extends AbstractLoadTest {
+
+    private static final int LOGINS = Integer.getInteger("loadtest.logins", 500);
+    private static final String CREDENTIALS = "{\"username\":\"loadtest\",\"password\":\"loadtest-password\"}";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Concurrent logins only hold a connection for the lookup, not for password hashing")
+    void concurrentLogins() throws Exception {
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong samples = new AtomicLong();
+        AtomicLong activeSum = new AtomicLong();
+        AtomicInteger maxWaiting = new AtomicInteger();
+
+        Thread sampler = Thread.ofPlatform().daemon(true).start(() -> {
+            while (running.get()) {
+                samples.incrementAndGet();
+                activeSum.addAndGet(pool.getActiveConnections());
+                maxWaiting.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException ex) {
+                    return;
+                }
+            }
+        });
+
+        Map<String, LatencyRecorder.Summary> summaries;
+        try {
+            summaries = run(LOGINS, CONCURRENCY, () -> Result.of("login", send("POST", "/api/auth/login", CREDENTIALS), 200));
+        } finally {
+            running.set(false);
+            sampler.join();
+        }
+
+        double meanActive = (double) activeSum.get() / Math.max(1, samples.get());
+        report("Concurrent logins, pool=2, mean active connections=" + String.format("%.3f", meanActive)
+                + ", max threads awaiting a connection=" + maxWaiting.get(), summaries);
+
+        assertThat(summaries.get("login").errors()).as("login errors").isZero();
+        // Holding a connection per in-flight hash would keep both busy, i.e. a mean close to 2
+        assertThat(meanActive).as("mean active connections").isLessThan(0.5);
+    }
+}
@@ -0,0 +1,17 @@
+package com.ars.backend.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@DisplayName("Platform-thread load test")
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=false",
+        "datasource.limiter.enabled=false"
+})
+class PlatformThreadLoadTest extends AbstractThreadModeLoadTest {
+
+    @Override
+    protected String mode() {
+        return "Platform";
+    }
+}
@@ -0,0 +1,79 @@
+package com.ars.backend.loadtest;
+
+import com.ars.backend.enumeration.Level;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mixed read/write traffic against every StudentController CRUD endpoint: 30% list, 20% search,
+ * 25% get, 10% create, 10% update and 5% delete. Deletes only remove students created by the
+ * run, so reads of seeded ids never 404.
+ */
+@DisplayName("Student API load test")
+class StudentApiLoadTest extends AbstractLoadTest {
+
+    private static final Level[] LEVELS = Level.values();
+
+    private final AtomicLong createdSequence = new AtomicLong();
+    private final Queue<Long> createdIds = new ConcurrentLinkedQueue<>();
+
+    @Test
+    @DisplayName("Mixed CRUD traffic stays within the latency budget")
+    void mixedTraffic() throws Exception {
+        // Warm up JIT, connection pool and caches before measuring
+        run(Math.min(REQUESTS / 10, 2_000), CONCURRENCY, this::nextOperation);
+
+        Map<String, LatencyRecorder.Summary> summaries = run(REQUESTS, CONCURRENCY, this::nextOperation);
+
+        report("Mixed CRUD traffic", summaries);
+        assertWithinBudget(summaries);
+    }
+
+    private Result nextOperation() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int roll = random.nextInt(100);
+        long seededId = 1 + random.nextLong(STUDENTS);
+
+        if (roll < 30) {
+            return Result.of("list", send("GET", "/api/students?page=" + random.nextInt(50) + "&size=20", null), 200);
+        }
+        if (roll < 50) {
+            return Result.of("search", send("GET", "/api/students/search?query=student" + random.nextInt(1_000) + "&size=20", null), 200);
+        }
+        if (roll < 75) {
+            return Result.of("get", send("GET", "/api/students/" + seededId, null), 200);
+        }
+        if (roll < 85) {
+            String username = "loadtest-" + createdSequence.incrementAndGet();
+            HttpResponse<String> response = send("POST", "/api/students", body(username, randomLevel()));
+            if (response.statusCode() == 201) {
+                createdIds.add(Long.parseLong(response.body().replaceAll(".*\"id\"\\s*:\\s*(\\d+).*", "$1")));
+            }
+            return Result.of("create", response, 201);
+        }
+        if (roll < 95) {
+            return Result.of("update", send("PUT", "/api/students/" + seededId, body("student" + seededId, randomLevel())), 200);
+        }
+
+        Long createdId = createdIds.poll();
+        if (createdId == null) {
+            return Result.of("get", send("GET", "/api/students/" + seededId, null), 200);
+        }
+        return Result.of("delete", send("DELETE", "/api/students/" + createdId, null), 204);
+    }
+
+    private static Level randomLevel() {
+        return LEVELS[ThreadLocalRandom.current().nextInt(LEVELS.length)];
+    }
+
+    private static String body(String username, Level level) {
+        return "{\"username\":\"" + username + "\",\"level\":\"" + level + "\"}";
+    }
+}
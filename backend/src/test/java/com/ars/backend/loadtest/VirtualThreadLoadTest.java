@@ -0,0 +1,17 @@
+package com.ars.backend.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@DisplayName("Virtual-thread load test")
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=true",
+        "datasource.limiter.enabled=true"
+})
+class VirtualThreadLoadTest extends AbstractThreadModeLoadTest {
+
+    @Override
+    protected String mode() {
+        return "Virtual";
+    }
+}
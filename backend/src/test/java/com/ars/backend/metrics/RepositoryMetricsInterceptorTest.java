@@ -0,0 +1,101 @@
+package com.ars.backend.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RepositoryMetricsInterceptor Tests")
+class RepositoryMetricsInterceptorTest {
+
+    interface SampleRepository {
+        List<String> findAll();
+
+        Slice<String> findSlice();
+
+        Optional<String> findOne();
+
+        long count();
+
+        int[] insertAll();
+
+        void fail();
+    }
+
+    static class SampleRepositoryImpl implements SampleRepository {
+        public List<String> findAll() { return List.of("a", "b", "c"); }
+
+        public Slice<String> findSlice() { return new SliceImpl<>(List.of("a", "b"), PageRequest.of(0, 2), true); }
+
+        public Optional<String> findOne() { return Optional.empty(); }
+
+        public long count() { return 42; }
+
+        public int[] insertAll() { return new int[]{1, 0, 1}; }
+
+        public void fail() { throw new IllegalStateException("boom"); }
+    }
+
+    private SimpleMeterRegistry meterRegistry;
+    private SampleRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ProxyFactory proxyFactory = new ProxyFactory(new SampleRepositoryImpl());
+        proxyFactory.addAdvice(new RepositoryMetricsInterceptor("SampleRepository", () -> meterRegistry));
+        repository = (SampleRepository) proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Should time calls and record returned or affected rows")
+    void invoke_RecordsTimerAndRows() {
+        // When
+        repository.findAll();
+        repository.findAll();
+        repository.findSlice();
+        repository.findOne();
+        repository.insertAll();
+
+        // Then
+        assertThat(meterRegistry.get(RepositoryMetricsInterceptor.INVOCATIONS)
+                .tags("repository", "SampleRepository", "method", "findAll", "outcome", "success")
+                .timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(RepositoryMetricsInterceptor.ROWS).tag("method", "findAll").summary().totalAmount()).isEqualTo(6);
+        assertThat(meterRegistry.get(RepositoryMetricsInterceptor.ROWS).tag("method", "findSlice").summary().totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.get(RepositoryMetricsInterceptor.ROWS).tag("method", "findOne").summary().totalAmount()).isZero();
+        assertThat(meterRegistry.get(RepositoryMetricsInterceptor.ROWS).tag("method", "insertAll").summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not record rows for scalar results")
+    void invoke_ScalarResult_NoRows() {
+        // When
+        repository.count();
+
+        // Then
+        assertThat(meterRegistry.get(RepositoryMetricsInterceptor.INVOCATIONS).tag("method", "count").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find(RepositoryMetricsInterceptor.ROWS).tag("method", "count").summary()).isNotNull();
+        assertThat(meterRegistry.get(RepositoryMetricsInterceptor.ROWS).tag("method", "count").summary().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should tag failed calls with the exception type")
+    void invoke_Failure_TagsOutcome() {
+        // When & Then
+        assertThatThrownBy(() -> repository.fail()).isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get(RepositoryMetricsInterceptor.INVOCATIONS)
+                .tags("method", "fail", "outcome", "IllegalStateException")
+                .timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,175 @@
+package com.ars.backend.repository;
+
+import com.ars.backend.config.StudentSyncProperties;
+import com.ars.backend.dto.StudentChange;
+import com.ars.backend.dto.StudentChangesResponse;
+import com.ars.backend.exception.SyncTokenExpiredException;
+import com.ars.backend.service.impl.StudentSyncServiceImpl;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Runs the V5 change-tracking triggers and the delta-sync queries against a real PostgreSQL,
+ * migrated by Flyway exactly as in production.
+ */
+@DisplayName("Student change tracking Tests")
+class StudentChangeTrackingTest {
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private StudentSyncServiceImpl syncService;
+
+    @BeforeAll
+    static void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        dataSource = postgres.getPostgresDatabase();
+        Flyway.configure().dataSource(dataSource).load().migrate();
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("TRUNCATE student_tbl, student_tombstone_tbl RESTART IDENTITY");
+        jdbcTemplate.update("UPDATE student_sync_horizon_tbl SET purged_xid = '0'");
+
+        StudentSyncProperties properties = new StudentSyncProperties();
+        properties.setMaximumPageSize(100);
+        syncService = new StudentSyncServiceImpl(new StudentChangeRepository(jdbcTemplate), properties);
+    }
+
+    @Test
+    @DisplayName("Should report inserts, updates and deletes made on any write path in change order")
+    void triggers_TrackEveryWrite() {
+        // Given
+        insert("alice", "bob");
+        StudentChangesResponse initial = syncService.getChangesSince(null, 10);
+
+        // When
+        jdbcTemplate.update("UPDATE student_tbl SET level = 'MASTER', version = version + 1 WHERE username = 'alice'");
+        jdbcTemplate.update("DELETE FROM student_tbl WHERE username = 'bob'");
+        StudentChangesResponse delta = syncService.getChangesSince(initial.nextToken(), 10);
+
+        // Then
+        assertThat(initial.changes()).extracting(StudentChange::id).containsExactly(1L, 2L);
+        assertThat(delta.changes()).extracting(StudentChange::type, StudentChange::id).containsExactly(
+                tuple(StudentChange.Type.UPSERTED, 1L),
+                tuple(StudentChange.Type.DELETED, 2L));
+        assertThat(delta.changes().getFirst().student().version()).isEqualTo(1L);
+        assertThat(syncService.getChangesSince(delta.nextToken(), 10).changes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should hold back changes committed after a transaction that is still running")
+    void findChangesAfter_InFlightTransaction_HoldsBackLaterCommits() throws Exception {
+        // Given
+        insert("alice", "bob");
+        String token = syncService.getChangesSince(null, 10).nextToken();
+
+        try (Connection inFlight = dataSource.getConnection()) {
+            inFlight.setAutoCommit(false);
+            try (Statement statement = inFlight.createStatement()) {
+                statement.executeUpdate("UPDATE student_tbl SET level = 'MASTER' WHERE username = 'alice'");
+            }
+            // Commits with a later transaction id while alice's update is still open
+            jdbcTemplate.update("UPDATE student_tbl SET level = 'DOCTORATE' WHERE username = 'bob'");
+
+            // When
+            StudentChangesResponse whileRunning = syncService.getChangesSince(token, 10);
+            inFlight.commit();
+            StudentChangesResponse afterCommit = syncService.getChangesSince(token, 10);
+
+            // Then: bob is not handed out ahead of alice, whose change would then land behind the token
+            assertThat(whileRunning.changes()).isEmpty();
+            assertThat(whileRunning.nextToken()).isEqualTo(token);
+            assertThat(afterCommit.changes()).extracting(StudentChange::id).containsExactly(1L, 2L);
+        }
+    }
+
+    @Test
+    @DisplayName("Should expire a token only when a purge passed it after it was issued")
+    void purge_ExpiresOnlyTokensIssuedBeforeIt() {
+        // Given: a full sync one student at a page, interrupted by a purge
+        insert("alice", "bob", "carol");
+        StudentChangesResponse firstPage = syncService.getChangesSince(null, 1);
+        jdbcTemplate.update("DELETE FROM student_tbl WHERE username = 'carol'");
+        jdbcTemplate.update("UPDATE student_tombstone_tbl SET deleted_at = now() - interval '60 days'");
+
+        // When
+        syncService.purgeTombstones();
+
+        // Then: the interrupted sync has to start over...
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM student_tombstone_tbl", Long.class)).isZero();
+        assertThatThrownBy(() -> syncService.getChangesSince(firstPage.nextToken(), 1))
+                .isInstanceOf(SyncTokenExpiredException.class);
+
+        // ...and the restarted one pages through rows older than the horizon to the end
+        List<Long> synced = new ArrayList<>();
+        StudentChangesResponse page = syncService.getChangesSince(null, 1);
+        synced.addAll(page.changes().stream().map(StudentChange::id).toList());
+        while (page.hasMore()) {
+            page = syncService.getChangesSince(page.nextToken(), 1);
+            synced.addAll(page.changes().stream().map(StudentChange::id).toList());
+        }
+        assertThat(synced).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should change the fingerprint on every write, even one committed behind a running transaction")
+    void fingerprint_ChangesOnEveryWrite() throws Exception {
+        // Given
+        StudentChangeRepository repository = new StudentChangeRepository(jdbcTemplate);
+        insert("alice", "bob");
+        String initial = repository.fingerprint();
+
+        try (Connection inFlight = dataSource.getConnection()) {
+            inFlight.setAutoCommit(false);
+            try (Statement statement = inFlight.createStatement()) {
+                statement.executeUpdate("UPDATE student_tbl SET level = 'MASTER' WHERE username = 'alice'");
+            }
+
+            // When
+            String unchanged = repository.fingerprint();
+            jdbcTemplate.update("UPDATE student_tbl SET level = 'DOCTORATE' WHERE username = 'bob'");
+            String bobUpdated = repository.fingerprint();
+            inFlight.commit();
+            String aliceUpdated = repository.fingerprint();
+            jdbcTemplate.update("DELETE FROM student_tbl WHERE username = 'bob'");
+            String bobDeleted = repository.fingerprint();
+
+            // Then
+            assertThat(unchanged).isEqualTo(initial);
+            assertThat(List.of(initial, bobUpdated, aliceUpdated, bobDeleted)).doesNotHaveDuplicates();
+            assertThat(repository.fingerprint()).isEqualTo(bobDeleted);
+        }
+    }
+
+    private void insert(String... usernames) {
+        for (String username : usernames) {
+            jdbcTemplate.update("INSERT INTO student_tbl (username, level) VALUES (?, 'BACHELOR')", username);
+        }
+    }
+}
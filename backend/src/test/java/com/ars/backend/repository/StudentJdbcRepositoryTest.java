@@ -0,0 +1,98 @@
+package com.ars.backend.repository;
+
+import com.ars.backend.entity.Student;
+import com.ars.backend.enumeration.Level;
+import com.ars.backend.repository.StudentJdbcRepository.UpsertedStudent;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the upsert against a real PostgreSQL, where its locking and conflict handling happen.
+ */
+@DisplayName("StudentJdbcRepository Tests")
+class StudentJdbcRepositoryTest {
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private StudentJdbcRepository repository;
+
+    @BeforeAll
+    static void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        dataSource = postgres.getPostgresDatabase();
+        Flyway.configure().dataSource(dataSource).load().migrate();
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("TRUNCATE student_tbl, student_tombstone_tbl RESTART IDENTITY");
+        repository = new StudentJdbcRepository(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should insert a new username and update an existing one with its previous level")
+    void upsert_InsertThenUpdate() {
+        // When
+        UpsertedStudent inserted = repository.upsert(student("alice", Level.BACHELOR));
+        UpsertedStudent updated = repository.upsert(student("alice", Level.MASTER));
+
+        // Then
+        assertThat(inserted.inserted()).isTrue();
+        assertThat(inserted.previousLevel()).isNull();
+        assertThat(updated.inserted()).isFalse();
+        assertThat(updated.previousLevel()).isEqualTo(Level.BACHELOR);
+        assertThat(updated.student().version()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should report the previous level when a concurrent insert of the username wins")
+    void upsert_ConcurrentInsert_ReportsPreviousLevel() throws Exception {
+        try (Connection concurrent = dataSource.getConnection()) {
+            // Given: another transaction has inserted alice but not committed yet
+            concurrent.setAutoCommit(false);
+            try (Statement statement = concurrent.createStatement()) {
+                statement.executeUpdate("INSERT INTO student_tbl (username, level) VALUES ('alice', 'ENGINEER')");
+            }
+
+            // When: the upsert does not see alice, so its insert waits on the unique index
+            CompletableFuture<UpsertedStudent> upsert = CompletableFuture.supplyAsync(
+                    () -> repository.upsert(student("alice", Level.MASTER)));
+            Thread.sleep(200);
+            assertThat(upsert).isNotDone();
+            concurrent.commit();
+
+            // Then
+            UpsertedStudent result = upsert.get(5, TimeUnit.SECONDS);
+            assertThat(result.inserted()).isFalse();
+            assertThat(result.previousLevel()).isEqualTo(Level.ENGINEER);
+            assertThat(result.student().level()).isEqualTo(Level.MASTER);
+        }
+    }
+
+    private static Student student(String username, Level level) {
+        return Student.builder().username(username).level(level).build();
+    }
+}
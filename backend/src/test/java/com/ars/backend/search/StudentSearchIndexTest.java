@@ -0,0 +1,219 @@
+package com.ars.backend.search;
+
+import com.ars.backend.dto.StudentChange;
+import com.ars.backend.dto.StudentResponse;
+import com.ars.backend.enumeration.Level;
+import com.ars.backend.event.StudentChangedEvent;
+import com.ars.backend.repository.StudentChangeRepository;
+import com.ars.backend.repository.StudentChangeRepository.ChangePosition;
+import com.ars.backend.repository.StudentChangeRepository.ChangeRow;
+import com.ars.backend.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudentSearchIndex Tests")
+class StudentSearchIndexTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private StudentChangeRepository studentChangeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StudentSearchIndex index;
+
+    private StudentResponse alice;
+    private StudentResponse bob;
+    private StudentResponse alicia;
+
+    @BeforeEach
+    void setUp() {
+        index = new StudentSearchIndex(studentRepository, studentChangeRepository, new TransactionTemplate(transactionManager));
+
+        alice = new StudentResponse(1L, "Alice", Level.BACHELOR, 0L);
+        bob = new StudentResponse(12L, "bob", Level.MASTER, 0L);
+        alicia = new StudentResponse(123L, "alicia", Level.ENGINEER, 0L);
+
+        index.put(alice);
+        index.put(bob);
+        index.put(alicia);
+    }
+
+    @Test
+    @DisplayName("Should rebuild from the repository and report ready")
+    void rebuild_LoadsAllStudents() {
+        // Given
+        when(studentRepository.streamResponsesBy()).thenReturn(Stream.of(
+                new StudentResponse(7L, "carol", Level.DOCTORATE, 0L)
+        ));
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("car", PageRequest.of(0, 10)).getContent())
+                .containsExactly(new StudentResponse(7L, "carol", Level.DOCTORATE, 0L));
+    }
+
+    @Test
+    @DisplayName("Should keep changes committed while the rebuild streams older rows")
+    void rebuild_ConcurrentChanges_NotOverwritten() {
+        // Given: carol is renamed and dave deleted after the stream read both rows
+        StudentResponse carol = new StudentResponse(7L, "carol", Level.DOCTORATE, 0L);
+        StudentResponse dave = new StudentResponse(8L, "dave", Level.MASTER, 0L);
+        StudentResponse renamed = new StudentResponse(7L, "caroline", Level.DOCTORATE, 1L);
+        when(studentRepository.streamResponsesBy()).thenReturn(Stream.of(carol, dave).peek(row -> {
+            if (row == carol) {
+                index.onStudentChanged(StudentChangedEvent.updated(renamed, Level.DOCTORATE));
+                index.onStudentChanged(StudentChangedEvent.deleted(8L, Level.MASTER));
+            }
+        }));
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("car", PageRequest.of(0, 10)).getContent()).containsExactly(renamed);
+        assertThat(index.search("dave", PageRequest.of(0, 10)).getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should apply changes from the change log that produced no local event")
+    void catchUp_AppliesChangeLog() {
+        // Given: rebuilt at (100, 5), then another instance renamed carol and deleted dave
+        StudentResponse carol = new StudentResponse(7L, "carol", Level.DOCTORATE, 0L);
+        StudentResponse dave = new StudentResponse(8L, "dave", Level.MASTER, 0L);
+        StudentResponse renamed = new StudentResponse(7L, "caroline", Level.DOCTORATE, 1L);
+        when(studentRepository.streamResponsesBy()).thenReturn(Stream.of(carol, dave));
+        when(studentChangeRepository.latestSettledPosition()).thenReturn(new ChangePosition(100, 5));
+        index.rebuild();
+        when(studentChangeRepository.findChangesAfter(100, 5, 1000)).thenReturn(List.of(
+                new ChangeRow(101, 6, new StudentChange(StudentChange.Type.UPSERTED, 7L, renamed)),
+                new ChangeRow(102, 7, new StudentChange(StudentChange.Type.DELETED, 8L, null))
+        ));
+
+        // When
+        index.catchUp();
+        index.catchUp();
+
+        // Then: the second run reads from where the first one stopped
+        assertThat(index.search("car", PageRequest.of(0, 10)).getContent()).containsExactly(renamed);
+        assertThat(index.search("dave", PageRequest.of(0, 10)).getContent()).isEmpty();
+        verify(studentChangeRepository).findChangesAfter(102, 7, 1000);
+    }
+
+    @Test
+    @DisplayName("Should rebuild when tombstones past its position were purged")
+    void catchUp_PurgedPastPosition_Rebuilds() {
+        // Given
+        when(studentRepository.streamResponsesBy()).thenReturn(Stream.of(alice), Stream.of(bob));
+        when(studentChangeRepository.latestSettledPosition()).thenReturn(new ChangePosition(100, 5));
+        index.rebuild();
+        when(studentChangeRepository.purgedHorizon()).thenReturn(150L);
+
+        // When
+        index.catchUp();
+
+        // Then
+        verify(studentRepository, times(2)).streamResponsesBy();
+        assertThat(index.search("", PageRequest.of(0, 10)).getContent()).containsExactly(bob);
+    }
+
+    @Test
+    @DisplayName("Should match LIKE metacharacters literally")
+    void search_WildcardCharacters_MatchedLiterally() {
+        // Given
+        StudentResponse underscored = new StudentResponse(50L, "al_ice", Level.BACHELOR, 0L);
+        index.put(underscored);
+
+        // When & Then
+        assertThat(index.search("l_i", PageRequest.of(0, 10)).getContent()).containsExactly(underscored);
+        assertThat(index.search("a%", PageRequest.of(0, 10)).getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match usernames case-insensitively for short and long queries")
+    void search_MatchesUsernameSubstrings() {
+        assertThat(index.search("AL", PageRequest.of(0, 10)).getContent()).containsExactly(alice, alicia);
+        assertThat(index.search("lici", PageRequest.of(0, 10)).getContent()).containsExactly(alicia);
+        assertThat(index.search("alicex", PageRequest.of(0, 10)).getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match id digits")
+    void search_MatchesIdDigits() {
+        assertThat(index.search("12", PageRequest.of(0, 10)).getContent()).containsExactly(bob, alicia);
+        assertThat(index.search("123", PageRequest.of(0, 10)).getContent()).containsExactly(alicia);
+    }
+
+    @Test
+    @DisplayName("Should page and sort results like the repository query")
+    void search_PagesAndSorts() {
+        // When
+        Page<StudentResponse> page = index.search("", PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "username")));
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getTotalPages()).isEqualTo(2);
+        assertThat(page.getContent()).containsExactly(alice);
+    }
+
+    @Test
+    @DisplayName("Should keep only the best matches when the page is smaller than the result")
+    void search_FirstPage_SelectsTopMatches() {
+        // When
+        Page<StudentResponse> page = index.search("", PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id")));
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).containsExactly(alicia, bob);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown sort properties")
+    void search_UnknownSortProperty_ThrowsException() {
+        assertThatThrownBy(() -> index.search("a", PageRequest.of(0, 10, Sort.by("password"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("password");
+    }
+
+    @Test
+    @DisplayName("Should reindex updated students and drop deleted ones")
+    void onStudentChanged_KeepsIndexInSync() {
+        // When
+        index.onStudentChanged(StudentChangedEvent.updated(new StudentResponse(12L, "robert", Level.MASTER, 0L), Level.BACHELOR));
+        index.onStudentChanged(StudentChangedEvent.deleted(1L, Level.BACHELOR));
+
+        // Then
+        assertThat(index.search("bob", PageRequest.of(0, 10)).getContent()).isEmpty();
+        assertThat(index.search("rob", PageRequest.of(0, 10)).getContent())
+                .containsExactly(new StudentResponse(12L, "robert", Level.MASTER, 0L));
+        assertThat(index.search("alice", PageRequest.of(0, 10)).getContent()).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,90 @@
+package com.ars.backend.security;
+
+import com.ars.backend.repository.AdminRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdminExistenceCache Tests")
+class AdminExistenceCacheTest {
+
+    @Mock
+    private AdminRepository adminRepository;
+
+    private JwtProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new JwtProperties();
+        properties.setAdminExistsCacheTtl(60_000);
+    }
+
+    @Test
+    @DisplayName("Should query the repository once per TTL")
+    void exists_WithinTtl_UsesCache() {
+        // Given
+        AdminExistenceCache cache = new AdminExistenceCache(adminRepository, properties, meterRegistry);
+        when(adminRepository.existsByUsername("admin")).thenReturn(true);
+
+        // When & Then
+        assertThat(cache.exists("admin")).isTrue();
+        assertThat(cache.exists("admin")).isTrue();
+        verify(adminRepository, times(1)).existsByUsername("admin");
+    }
+
+    @Test
+    @DisplayName("Should reload after explicit invalidation")
+    void invalidate_ForcesReload() {
+        // Given
+        AdminExistenceCache cache = new AdminExistenceCache(adminRepository, properties, meterRegistry);
+        when(adminRepository.existsByUsername("admin")).thenReturn(false, true);
+
+        // When & Then
+        assertThat(cache.exists("admin")).isFalse();
+        cache.invalidate("admin");
+        assertThat(cache.exists("admin")).isTrue();
+        verify(adminRepository, times(2)).existsByUsername("admin");
+    }
+
+    @Test
+    @DisplayName("Should report hits and misses as cache metrics")
+    void exists_RecordsCacheMetrics() {
+        // Given
+        AdminExistenceCache cache = new AdminExistenceCache(adminRepository, properties, meterRegistry);
+        when(adminRepository.existsByUsername("admin")).thenReturn(true);
+
+        // When
+        cache.exists("admin");
+        cache.exists("admin");
+
+        // Then
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "admin-exists", "result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "admin-exists", "result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should skip the check when the TTL is zero")
+    void exists_ZeroTtl_SkipsRepository() {
+        // Given
+        properties.setAdminExistsCacheTtl(0);
+        AdminExistenceCache cache = new AdminExistenceCache(adminRepository, properties, meterRegistry);
+
+        // When & Then
+        assertThat(cache.exists("admin")).isTrue();
+        verify(adminRepository, never()).existsByUsername(anyString());
+    }
+}
@@ -0,0 +1,82 @@
+package com.ars.backend.security;
+
+import com.ars.backend.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AuthThrottle Tests")
+class AuthThrottleTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuthThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        AuthProperties properties = new AuthProperties();
+        properties.setIpBurst(3);
+        properties.setIpRefillPeriod(Duration.ofMinutes(1));
+        properties.setUsernameBurst(2);
+        properties.setUsernameRefillPeriod(Duration.ofMinutes(1));
+
+        meterRegistry = new SimpleMeterRegistry();
+        throttle = new AuthThrottle(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should reject a username past its burst from any address")
+    void acquire_UsernameBurstExceeded_Throws() {
+        // Given
+        throttle.acquire("10.0.0.1", "admin");
+        throttle.acquire("10.0.0.2", "Admin");
+
+        // When & Then
+        assertThatThrownBy(() -> throttle.acquire("10.0.0.3", "admin"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .satisfies(ex -> assertThat(((TooManyRequestsException) ex).getRetryAfter())
+                        .isPositive()
+                        .isLessThanOrEqualTo(Duration.ofMinutes(1)));
+        assertThat(meterRegistry.get("security.auth.throttled").tag("key", "username").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject an address past its burst whatever the username")
+    void acquire_IpBurstExceeded_Throws() {
+        // Given
+        throttle.acquire("10.0.0.1", "alice");
+        throttle.acquire("10.0.0.1", "bob");
+        throttle.acquire("10.0.0.1", "carol");
+
+        // When & Then
+        assertThatThrownBy(() -> throttle.acquire("10.0.0.1", "dave"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> throttle.acquire("10.0.0.2", "dave")).doesNotThrowAnyException();
+        assertThat(meterRegistry.get("security.auth.throttled").tag("key", "ip").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should earn back one token per refill period up to the capacity")
+    void tokenBucket_Refills() {
+        // Given
+        long period = TimeUnit.SECONDS.toNanos(10);
+        TokenBucket bucket = new TokenBucket(2, period, 0);
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+
+        // When & Then
+        assertThat(bucket.tryAcquire(TimeUnit.SECONDS.toNanos(4))).isEqualTo(TimeUnit.SECONDS.toNanos(6));
+        assertThat(bucket.tryAcquire(period)).isZero();
+        assertThat(bucket.tryAcquire(period)).isEqualTo(period);
+        assertThat(bucket.tryAcquire(10 * period)).isZero();
+        assertThat(bucket.tryAcquire(10 * period)).isZero();
+        assertThat(bucket.tryAcquire(10 * period)).isPositive();
+    }
+}
@@ -0,0 +1,52 @@
+package com.ars.backend.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BloomFilter Tests")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Should never miss an added key")
+    void mightContain_AddedKeys_AlwaysTrue() {
+        // Given
+        BloomFilter filter = new BloomFilter(1_000, 0.001);
+        String[] keys = new String[1_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = UUID.randomUUID().toString();
+            filter.add(keys[i]);
+        }
+
+        // Then
+        for (String key : keys) {
+            assertThat(filter.mightContain(key)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep false positives near the configured rate at the expected size")
+    void mightContain_AbsentKeys_RateWithinBound() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.001);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(UUID.randomUUID().toString());
+        }
+
+        // When
+        int falsePositives = 0;
+        int probes = 200_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat(filter.hashCount()).isEqualTo(10);
+        assertThat((double) falsePositives / probes).isLessThan(0.003);
+    }
+}
@@ -0,0 +1,85 @@
+package com.ars.backend.security;
+
+import com.ars.backend.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedPasswordEncoder Tests")
+class BoundedPasswordEncoderTest {
+
+    private ThreadPoolExecutor executor;
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        encoder = new BoundedPasswordEncoder(new PlainPasswordEncoder(), executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should hash on the pool and return the delegate's result")
+    void encodeAndMatches_RunOnPool() {
+        // When
+        String encoded = encoder.encode("secret");
+
+        // Then
+        assertThat(encoded).isEqualTo("{plain}secret");
+        assertThat(encoder.matches("secret", encoded)).isTrue();
+        assertThat(encoder.matches("other", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject with 429 when the pool and its queue are full")
+    void encode_QueueFull_ThrowsTooManyRequests() throws InterruptedException {
+        // Given
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            running.countDown();
+            awaitQuietly(release);
+        });
+        running.await();
+        executor.execute(() -> { });
+
+        // When & Then
+        assertThatThrownBy(() -> encoder.encode("secret"))
+                .isInstanceOf(TooManyRequestsException.class);
+        release.countDown();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class PlainPasswordEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "{plain}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("{plain}" + rawPassword);
+        }
+    }
+}
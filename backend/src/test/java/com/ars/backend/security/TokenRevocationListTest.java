@@ -0,0 +1,112 @@
+package com.ars.backend.security;
+
+import com.ars.backend.entity.RevokedToken;
+import com.ars.backend.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationList Tests")
+class TokenRevocationListTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationList revocationList;
+    private Instant expiresAt;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setRevocationExpectedTokens(1_000);
+        properties.setRevocationFalsePositiveRate(0.001);
+        meterRegistry = new SimpleMeterRegistry();
+        revocationList = new TokenRevocationList(revokedTokenRepository, properties, meterRegistry);
+        expiresAt = Instant.now().plus(Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("Should persist a revocation and reject the token id afterwards")
+    void revoke_PersistsAndRejects() {
+        // When
+        revocationList.revoke("jti-1", expiresAt);
+
+        // Then
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
+        assertThat(revocationList.isRevoked("jti-1")).isTrue();
+        assertThat(revocationList.isRevoked("jti-2")).isFalse();
+        assertThat(meterRegistry.get("security.jwt.revocation.rejections").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer live tokens from memory without touching the repository")
+    void isRevoked_LiveTokens_NoDatabaseAccess() {
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(revocationList.isRevoked(UUID.randomUUID().toString())).isFalse();
+        }
+        assertThat(revocationList.isRevoked(null)).isFalse();
+
+        // Then
+        verifyNoInteractions(revokedTokenRepository);
+    }
+
+    @Test
+    @DisplayName("Should not persist tokens that have already expired")
+    void revoke_ExpiredToken_Ignored() {
+        // When
+        revocationList.revoke("jti-1", Instant.now().minusSeconds(1));
+
+        // Then
+        verify(revokedTokenRepository, never()).save(any(RevokedToken.class));
+        assertThat(revocationList.isRevoked("jti-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reload persisted revocations and purge expired ones")
+    void reload_LoadsPersistedRevocations() {
+        // Given
+        when(revokedTokenRepository.findByExpiresAtAfter(any(Instant.class)))
+                .thenReturn(List.of(new RevokedToken("persisted", expiresAt)));
+
+        // When
+        revocationList.reload();
+
+        // Then
+        verify(revokedTokenRepository).deleteExpired(any(Instant.class));
+        assertThat(revocationList.isRevoked("persisted")).isTrue();
+        assertThat(revocationList.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep local revocations made before a reload that did not see them")
+    void reload_KeepsLocalRevocations() {
+        // Given
+        revocationList.revoke("local", expiresAt);
+        when(revokedTokenRepository.findByExpiresAtAfter(any(Instant.class))).thenReturn(List.of());
+
+        // When
+        revocationList.reload();
+
+        // Then
+        assertThat(revocationList.isRevoked("local")).isTrue();
+    }
+}
@@ -0,0 +1,103 @@
+package com.ars.backend.security;
+
+import com.ars.backend.entity.Admin;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("VerifiedTokenCache Tests")
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "Q+QWv1y4J0dOEsdmDBmYFNxE15ZZW0kkfqJC+g7klDE=";
+
+    private JwtProperties properties;
+    private JwtTokenProvider tokenProvider;
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+    private Admin admin;
+
+    @BeforeEach
+    void setUp() {
+        properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpiration(60_000);
+        properties.setVerifiedTokenCacheSize(2);
+
+        tokenProvider = spy(new JwtTokenProvider(properties));
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(tokenProvider, properties, meterRegistry);
+        admin = Admin.builder().id(1L).username("admin").password("secret").build();
+    }
+
+    @Test
+    @DisplayName("Should verify a token once and serve repeats from the cache")
+    void verify_RepeatedToken_ParsesOnce() {
+        // Given
+        String token = tokenProvider.generateToken(admin);
+
+        // When
+        Optional<Claims> first = cache.verify(token);
+        Optional<Claims> second = cache.verify(token);
+
+        // Then
+        assertThat(first).isPresent();
+        assertThat(first.get().getSubject()).isEqualTo("admin");
+        assertThat(second).containsSame(first.get());
+        verify(tokenProvider, times(1)).parseClaims(token);
+        assertThat(meterRegistry.get("security.jwt.verification").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("security.jwt.cache.hits").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject tampered tokens without caching them")
+    void verify_TamperedToken_ReturnsEmpty() {
+        // Given
+        String token = tokenProvider.generateToken(admin);
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        // When & Then
+        assertThat(cache.verify(tampered)).isEmpty();
+        assertThat(cache.verify("not.a.jwt")).isEmpty();
+        assertThat(cache.size()).isZero();
+        assertThat(meterRegistry.get("security.jwt.rejections").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject expired tokens")
+    void verify_ExpiredToken_ReturnsEmpty() {
+        // Given
+        properties.setExpiration(-1_000);
+        String token = tokenProvider.generateToken(admin);
+
+        // When & Then
+        assertThat(cache.verify(token)).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should stay within its size bound")
+    void verify_FullCache_DoesNotGrow() {
+        // Given
+        String first = tokenProvider.generateToken(admin);
+        String second = tokenProvider.generateToken(Admin.builder().username("second").build());
+        String third = tokenProvider.generateToken(Admin.builder().username("third").build());
+
+        // When
+        cache.verify(first);
+        cache.verify(second);
+        Optional<Claims> claims = cache.verify(third);
+
+        // Then
+        assertThat(claims).isPresent();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+}
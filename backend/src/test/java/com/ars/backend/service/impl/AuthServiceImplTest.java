@@ -5,7 +5,11 @@ import com.ars.backend.dto.AuthResponse;
 import com.ars.backend.entity.Admin;
 import com.ars.backend.exception.DuplicateResourceException;
 import com.ars.backend.repository.AdminRepository;
+import com.ars.backend.security.AdminExistenceCache;
 import com.ars.backend.security.JwtTokenProvider;
+import com.ars.backend.security.TokenRevocationList;
+import com.ars.backend.security.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,9 +17,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Instant;
+import java.util.Date;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,6 +44,15 @@ class AuthServiceImplTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private AdminExistenceCache adminExistenceCache;
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -73,6 +89,7 @@ class AuthServiceImplTest {
         verify(adminRepository).existsByUsername(authRequest.username());
         verify(passwordEncoder).encode(authRequest.password());
         verify(adminRepository).save(any(Admin.class));
+        verify(adminExistenceCache).invalidate(admin.getUsername());
         verify(jwtTokenProvider).generateToken(any(Admin.class));
     }
 
@@ -93,6 +110,23 @@ class AuthServiceImplTest {
         verify(jwtTokenProvider, never()).generateToken(any(Admin.class));
     }
 
+    @Test
+    @DisplayName("Should throw DuplicateResourceException when the username is registered concurrently")
+    void register_ConcurrentDuplicate_ThrowsException() {
+        // Given
+        when(adminRepository.existsByUsername(authRequest.username())).thenReturn(false);
+        when(passwordEncoder.encode(authRequest.password())).thenReturn("encodedPassword");
+        when(adminRepository.save(any(Admin.class))).thenThrow(new DataIntegrityViolationException("admin_tbl_username_key"));
+
+        // When & Then
+        assertThatThrownBy(() -> authService.register(authRequest))
+                .isInstanceOf(DuplicateResourceException.class)
+                .hasMessageContaining("Admin with username '" + authRequest.username() + "' already exists");
+
+        verify(adminExistenceCache, never()).invalidate(anyString());
+        verify(jwtTokenProvider, never()).generateToken(any(Admin.class));
+    }
+
     @Test
     @DisplayName("Should successfully login with valid credentials")
     void login_Success() {
@@ -201,6 +235,34 @@ class AuthServiceImplTest {
         // Then
         assertThat(response.accessToken()).isEqualTo(expectedToken);
     }
-}
 
+    @Test
+    @DisplayName("Should revoke the token id until the token expires on logout")
+    void logout_ValidToken_RevokesTokenId() {
+        // Given
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        Claims claims = mock(Claims.class);
+        when(claims.getId()).thenReturn("jti-1");
+        when(claims.getExpiration()).thenReturn(Date.from(expiresAt));
+        when(verifiedTokenCache.verify(token)).thenReturn(Optional.of(claims));
+
+        // When
+        authService.logout(token);
+
+        // Then
+        verify(tokenRevocationList).revoke("jti-1", expiresAt);
+    }
 
+    @Test
+    @DisplayName("Should not revoke anything on logout with an invalid token")
+    void logout_InvalidToken_NothingRevoked() {
+        // Given
+        when(verifiedTokenCache.verify(token)).thenReturn(Optional.empty());
+
+        // When
+        authService.logout(token);
+
+        // Then
+        verifyNoInteractions(tokenRevocationList);
+    }
+}
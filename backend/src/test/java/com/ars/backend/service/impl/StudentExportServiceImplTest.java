@@ -0,0 +1,89 @@
+package com.ars.backend.service.impl;
+
+import com.ars.backend.config.StudentExportProperties;
+import com.ars.backend.dto.StudentResponse;
+import com.ars.backend.enumeration.DataFormat;
+import com.ars.backend.enumeration.Level;
+import com.ars.backend.repository.StudentJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudentExportService Tests")
+class StudentExportServiceImplTest {
+
+    @Mock
+    private StudentJdbcRepository studentJdbcRepository;
+
+    private StudentExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        StudentExportProperties properties = new StudentExportProperties();
+        properties.setFetchSize(500);
+        exportService = new StudentExportServiceImpl(studentJdbcRepository, JsonMapper.builder().build(), properties);
+    }
+
+    @Test
+    @DisplayName("Should write a CSV header and escape usernames")
+    void exportStudents_Csv_WritesRows() throws IOException {
+        // Given
+        streamRows(null, new StudentResponse(1L, "alice", Level.BACHELOR, 0L), new StudentResponse(2L, "o\"neil, jr", Level.MASTER, 0L));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long rows = exportService.exportStudents(null, DataFormat.CSV, output);
+
+        // Then
+        assertThat(rows).isEqualTo(2);
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                id,username,level
+                1,alice,BACHELOR
+                2,"o""neil, jr",MASTER
+                """);
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line filtered by level")
+    void exportStudents_Ndjson_WritesRows() throws IOException {
+        // Given
+        streamRows(Level.MASTER, new StudentResponse(2L, "bob", Level.MASTER, 0L));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long rows = exportService.exportStudents(Level.MASTER, DataFormat.NDJSON, output);
+
+        // Then
+        String written = output.toString(StandardCharsets.UTF_8);
+        assertThat(rows).isEqualTo(1);
+        assertThat(written).endsWith("}\n").doesNotContain("\n{");
+        assertThat(JsonMapper.builder().build().readValue(written.trim(), StudentResponse.class))
+                .isEqualTo(new StudentResponse(2L, "bob", Level.MASTER, 0L));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streamRows(Level level, StudentResponse... students) {
+        doAnswer(invocation -> {
+            Consumer<StudentResponse> consumer = invocation.getArgument(2, Consumer.class);
+            for (StudentResponse student : students) {
+                consumer.accept(student);
+            }
+            return null;
+        }).when(studentJdbcRepository).streamAll(eq(level), eq(500), any());
+    }
+}
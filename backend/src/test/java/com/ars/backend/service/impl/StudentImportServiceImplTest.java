@@ -0,0 +1,194 @@
+package com.ars.backend.service.impl;
+
+import com.ars.backend.config.StudentImportProperties;
+import com.ars.backend.dto.StudentImportError;
+import com.ars.backend.dto.StudentImportResult;
+import com.ars.backend.entity.Student;
+import com.ars.backend.enumeration.DataFormat;
+import com.ars.backend.enumeration.Level;
+import com.ars.backend.event.StudentChangedEvent;
+import com.ars.backend.mapper.StudentMapper;
+import com.ars.backend.repository.StudentJdbcRepository;
+import com.ars.backend.repository.StudentRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudentImportService Tests")
+class StudentImportServiceImplTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private StudentJdbcRepository studentJdbcRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StudentImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        StudentImportProperties properties = new StudentImportProperties();
+        properties.setChunkSize(2);
+
+        importService = new StudentImportServiceImpl(
+                studentRepository,
+                studentJdbcRepository,
+                new StudentMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                JsonMapper.builder().build(),
+                new TransactionTemplate(transactionManager),
+                eventPublisher,
+                properties
+        );
+    }
+
+    @Test
+    @DisplayName("Should import CSV rows in chunks with reserved ids")
+    void importStudents_Csv_InsertsInChunks() throws IOException {
+        // Given
+        String csv = "username,level\nalice,BACHELOR\nbob,master\ncarol,ENGINEER\n";
+        when(studentRepository.findExistingUsernames(anyCollection())).thenReturn(List.of());
+        when(studentJdbcRepository.nextIds(2)).thenReturn(List.of(10L, 11L));
+        when(studentJdbcRepository.nextIds(1)).thenReturn(List.of(12L));
+        when(studentJdbcRepository.insertAll(anyList()))
+                .thenAnswer(invocation -> ones(invocation.getArgument(0, List.class).size()));
+
+        // When
+        StudentImportResult result = importService.importStudents(stream(csv), DataFormat.CSV);
+
+        // Then
+        assertThat(result.totalRows()).isEqualTo(3);
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.errors()).isEmpty();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Student>> batches = ArgumentCaptor.forClass(List.class);
+        verify(studentJdbcRepository, times(2)).insertAll(batches.capture());
+        assertThat(batches.getAllValues().getFirst())
+                .extracting(Student::getId, Student::getUsername, Student::getLevel, Student::getVersion)
+                .containsExactly(tuple(10L, "alice", Level.BACHELOR, 0L), tuple(11L, "bob", Level.MASTER, 0L));
+        ArgumentCaptor<StudentChangedEvent> events = ArgumentCaptor.forClass(StudentChangedEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(events.capture());
+        assertThat(events.getAllValues())
+                .extracting(event -> event.student().version())
+                .containsOnly(0L);
+    }
+
+    @Test
+    @DisplayName("Should report invalid, repeated and existing usernames per line")
+    void importStudents_Ndjson_ReportsRowErrors() throws IOException {
+        // Given
+        String ndjson = """
+                {"username":"alice","level":"BACHELOR"}
+                {"username":"","level":"MASTER"}
+                {"username":"alice","level":"MASTER"}
+                {"username":"taken","level":"ENGINEER"}
+                not json
+                """;
+        when(studentRepository.findExistingUsernames(anyCollection())).thenReturn(List.of("taken"));
+        when(studentJdbcRepository.nextIds(1)).thenReturn(List.of(10L));
+        when(studentJdbcRepository.insertAll(anyList())).thenReturn(new int[]{1});
+
+        // When
+        StudentImportResult result = importService.importStudents(stream(ndjson), DataFormat.NDJSON);
+
+        // Then
+        assertThat(result.totalRows()).isEqualTo(5);
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(4);
+        assertThat(result.errors())
+                .extracting(StudentImportError::line)
+                .containsExactly(2L, 3L, 4L, 5L);
+        assertThat(result.errors())
+                .extracting(StudentImportError::message)
+                .startsWith("Username is required", "Duplicate username in import", "Student with username 'taken' already exists");
+        assertThat(result.errors().getLast().message()).startsWith("Malformed JSON");
+    }
+
+    @Test
+    @DisplayName("Should report a null line as a row error instead of failing the import")
+    void importStudents_NullLine_ReportsError() throws IOException {
+        // Given
+        when(studentRepository.findExistingUsernames(anyCollection())).thenReturn(List.of());
+        when(studentJdbcRepository.nextIds(1)).thenReturn(List.of(10L));
+        when(studentJdbcRepository.insertAll(anyList())).thenReturn(new int[]{1});
+
+        // When
+        StudentImportResult result = importService.importStudents(
+                stream("null\n{\"username\":\"alice\",\"level\":\"BACHELOR\"}\n"), DataFormat.NDJSON);
+
+        // Then
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.errors()).containsExactly(new StudentImportError(1, null, "Expected a JSON object"));
+    }
+
+    @Test
+    @DisplayName("Should report rows skipped by the unique constraint")
+    void importStudents_ConcurrentDuplicate_ReportsConflict() throws IOException {
+        // Given
+        when(studentRepository.findExistingUsernames(anyCollection())).thenReturn(List.of());
+        when(studentJdbcRepository.nextIds(anyInt())).thenReturn(List.of(10L, 11L));
+        when(studentJdbcRepository.insertAll(anyList())).thenReturn(new int[]{1, 0});
+
+        // When
+        StudentImportResult result = importService.importStudents(stream("alice,BACHELOR\nbob,MASTER\n"), DataFormat.CSV);
+
+        // Then
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.errors()).containsExactly(
+                new StudentImportError(2, "bob", "Student with username 'bob' already exists"));
+        verify(eventPublisher, times(1)).publishEvent(any(StudentChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown levels without touching the database")
+    void importStudents_UnknownLevel_ReportsError() throws IOException {
+        // When
+        StudentImportResult result = importService.importStudents(stream("alice,FRESHMAN\n"), DataFormat.CSV);
+
+        // Then
+        assertThat(result.imported()).isZero();
+        assertThat(result.errors()).containsExactly(new StudentImportError(1, "alice", "Unknown level: FRESHMAN"));
+        verifyNoInteractions(studentRepository, studentJdbcRepository, transactionManager);
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int[] ones(int size) {
+        int[] counts = new int[size];
+        Arrays.fill(counts, 1);
+        return counts;
+    }
+}
@@ -1,13 +1,29 @@
 package com.ars.backend.service.impl;
 
+import com.ars.backend.cache.StudentCache;
+import com.ars.backend.dto.CursorPage;
+import com.ars.backend.dto.StudentBatchDeleteRequest;
+import com.ars.backend.dto.StudentBatchOutcome;
+import com.ars.backend.dto.StudentBatchResult;
+import com.ars.backend.dto.StudentBatchUpdateRequest;
+import com.ars.backend.dto.StudentFilter;
 import com.ars.backend.dto.StudentRequest;
 import com.ars.backend.dto.StudentResponse;
+import com.ars.backend.dto.StudentStatisticsResponse;
+import com.ars.backend.dto.StudentUpsertResult;
 import com.ars.backend.entity.Student;
 import com.ars.backend.enumeration.Level;
+import com.ars.backend.event.StudentChangedEvent;
+import com.ars.backend.exception.BadRequestException;
 import com.ars.backend.exception.DuplicateResourceException;
+import com.ars.backend.exception.PreconditionFailedException;
 import com.ars.backend.exception.ResourceNotFoundException;
 import com.ars.backend.mapper.StudentMapper;
+import com.ars.backend.repository.StudentJdbcRepository;
+import com.ars.backend.repository.StudentJdbcRepository.VersionedUpdate;
 import com.ars.backend.repository.StudentRepository;
+import com.ars.backend.search.StudentSearchIndex;
+import com.ars.backend.statistics.StudentStatistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,14 +31,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
+import java.sql.SQLException;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -37,14 +64,28 @@ class StudentServiceImplTest {
     @Mock
     private StudentRepository studentRepository;
 
+    @Mock
+    private StudentJdbcRepository studentJdbcRepository;
+
     @Mock
     private StudentMapper studentMapper;
 
+    @Mock
+    private StudentSearchIndex studentSearchIndex;
+
+    @Mock
+    private StudentStatistics studentStatistics;
+
+    @Mock
+    private StudentCache studentCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private StudentServiceImpl studentService;
 
     private Student student1;
-    private Student student2;
     private StudentRequest studentRequest;
     private StudentResponse studentResponse1;
     private StudentResponse studentResponse2;
@@ -58,16 +99,10 @@ class StudentServiceImplTest {
                 .level(Level.BACHELOR)
                 .build();
 
-        student2 = Student.builder()
-                .id(2L)
-                .username("student2")
-                .level(Level.MASTER)
-                .build();
-
         studentRequest = new StudentRequest(Level.BACHELOR,"newstudent" );
 
-        studentResponse1 = new StudentResponse(1L, "student1", Level.BACHELOR);
-        studentResponse2 = new StudentResponse(2L, "student2", Level.MASTER);
+        studentResponse1 = new StudentResponse(1L, "student1", Level.BACHELOR, 0L);
+        studentResponse2 = new StudentResponse(2L, "student2", Level.MASTER, 0L);
 
         pageable = PageRequest.of(0, 10);
     }
@@ -76,12 +111,10 @@ class StudentServiceImplTest {
     @DisplayName("Should return all students with pagination")
     void getAllStudents_Success() {
         // Given
-        List<Student> students = Arrays.asList(student1, student2);
-        Page<Student> studentPage = new PageImpl<>(students, pageable, students.size());
+        List<StudentResponse> students = Arrays.asList(studentResponse1, studentResponse2);
+        Page<StudentResponse> studentPage = new PageImpl<>(students, pageable, students.size());
 
-        when(studentRepository.findAll(pageable)).thenReturn(studentPage);
-        when(studentMapper.toResponse(student1)).thenReturn(studentResponse1);
-        when(studentMapper.toResponse(student2)).thenReturn(studentResponse2);
+        when(studentRepository.findResponsesBy(pageable)).thenReturn(studentPage);
 
         // When
         Page<StudentResponse> result = studentService.getAllStudents(pageable);
@@ -90,8 +123,8 @@ class StudentServiceImplTest {
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getTotalElements()).isEqualTo(2);
-        verify(studentRepository).findAll(pageable);
-        verify(studentMapper, times(2)).toResponse(any(Student.class));
+        verify(studentRepository).findResponsesBy(pageable);
+        verifyNoInteractions(studentMapper);
     }
 
     @Test
@@ -99,8 +132,8 @@ class StudentServiceImplTest {
     void getStudentById_Success() {
         // Given
         Long studentId = 1L;
-        when(studentRepository.findById(studentId)).thenReturn(Optional.of(student1));
-        when(studentMapper.toResponse(student1)).thenReturn(studentResponse1);
+        readThroughCache();
+        when(studentRepository.findResponseById(studentId)).thenReturn(Optional.of(studentResponse1));
 
         // When
         StudentResponse result = studentService.getStudentById(studentId);
@@ -109,8 +142,22 @@ class StudentServiceImplTest {
         assertThat(result).isNotNull();
         assertThat(result.id()).isEqualTo(studentId);
         assertThat(result.username()).isEqualTo("student1");
-        verify(studentRepository).findById(studentId);
-        verify(studentMapper).toResponse(student1);
+        verify(studentCache).get(eq(studentId), any());
+        verify(studentRepository).findResponseById(studentId);
+    }
+
+    @Test
+    @DisplayName("Should serve a cached student without querying the database")
+    void getStudentById_Cached_SkipsRepository() {
+        // Given
+        when(studentCache.get(eq(1L), any())).thenReturn(studentResponse1);
+
+        // When
+        StudentResponse result = studentService.getStudentById(1L);
+
+        // Then
+        assertThat(result).isSameAs(studentResponse1);
+        verifyNoInteractions(studentRepository, studentMapper);
     }
 
     @Test
@@ -118,24 +165,23 @@ class StudentServiceImplTest {
     void getStudentById_NotFound_ThrowsException() {
         // Given
         Long studentId = 999L;
-        when(studentRepository.findById(studentId)).thenReturn(Optional.empty());
+        readThroughCache();
+        when(studentRepository.findResponseById(studentId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> studentService.getStudentById(studentId))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Student not found with id: " + studentId);
 
-        verify(studentRepository).findById(studentId);
-        verify(studentMapper, never()).toResponse(any(Student.class));
+        verify(studentRepository).findResponseById(studentId);
     }
 
     @Test
     @DisplayName("Should successfully create a new student")
     void createStudent_Success() {
         // Given
-        when(studentRepository.findByUsername(studentRequest.username())).thenReturn(Optional.empty());
         when(studentMapper.toEntity(studentRequest)).thenReturn(student1);
-        when(studentRepository.save(student1)).thenReturn(student1);
+        when(studentRepository.saveAndFlush(student1)).thenReturn(student1);
         when(studentMapper.toResponse(student1)).thenReturn(studentResponse1);
 
         // When
@@ -143,27 +189,77 @@ class StudentServiceImplTest {
 
         // Then
         assertThat(result).isNotNull();
-        assertThat(result.username()).isEqualTo(studentRequest.username());
-        verify(studentRepository).findByUsername(studentRequest.username());
+        assertThat(result.username()).isEqualTo(studentResponse1.username());
         verify(studentMapper).toEntity(studentRequest);
-        verify(studentRepository).save(student1);
+        verify(studentRepository).saveAndFlush(student1);
         verify(studentMapper).toResponse(student1);
+        verify(eventPublisher).publishEvent(StudentChangedEvent.created(studentResponse1));
     }
 
     @Test
     @DisplayName("Should throw DuplicateResourceException when creating student with existing username")
     void createStudent_DuplicateUsername_ThrowsException() {
         // Given
-        when(studentRepository.findByUsername(studentRequest.username())).thenReturn(Optional.of(student1));
+        DataIntegrityViolationException violation = new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLException("duplicate key value violates unique constraint", "23505"));
+        when(studentMapper.toEntity(studentRequest)).thenReturn(student1);
+        when(studentRepository.saveAndFlush(student1)).thenThrow(violation);
 
         // When & Then
         assertThatThrownBy(() -> studentService.createStudent(studentRequest))
                 .isInstanceOf(DuplicateResourceException.class)
                 .hasMessageContaining("Student with username '" + studentRequest.username() + "' already exists");
 
-        verify(studentRepository).findByUsername(studentRequest.username());
-        verify(studentMapper, never()).toEntity(any(StudentRequest.class));
-        verify(studentRepository, never()).save(any(Student.class));
+        verify(studentMapper, never()).toResponse(any(Student.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Should rethrow constraint violations other than a duplicate username")
+    void createStudent_OtherConstraintViolation_Rethrows() {
+        // Given
+        DataIntegrityViolationException violation = new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLException("null value in column violates not-null constraint", "23502"));
+        when(studentMapper.toEntity(studentRequest)).thenReturn(student1);
+        when(studentRepository.saveAndFlush(student1)).thenThrow(violation);
+
+        // When & Then
+        assertThatThrownBy(() -> studentService.createStudent(studentRequest))
+                .isSameAs(violation);
+    }
+
+    @Test
+    @DisplayName("Should upsert a student in a single statement")
+    void upsertStudent_ExistingUsername_PublishesUpdate() {
+        // Given
+        when(studentMapper.toEntity(studentRequest)).thenReturn(student1);
+        when(studentJdbcRepository.upsert(student1))
+                .thenReturn(new StudentJdbcRepository.UpsertedStudent(studentResponse1, false, Level.MASTER));
+
+        // When
+        StudentUpsertResult result = studentService.upsertStudent(studentRequest);
+
+        // Then
+        assertThat(result).isEqualTo(new StudentUpsertResult(studentResponse1, false));
+        verify(eventPublisher).publishEvent(StudentChangedEvent.updated(studentResponse1, Level.MASTER));
+    }
+
+    @Test
+    @DisplayName("Should report an upsert that inserted a new student as created")
+    void upsertStudent_NewUsername_PublishesCreate() {
+        // Given
+        when(studentMapper.toEntity(studentRequest)).thenReturn(student1);
+        when(studentJdbcRepository.upsert(student1))
+                .thenReturn(new StudentJdbcRepository.UpsertedStudent(studentResponse1, true, null));
+
+        // When
+        StudentUpsertResult result = studentService.upsertStudent(studentRequest);
+
+        // Then
+        assertThat(result).isEqualTo(new StudentUpsertResult(studentResponse1, true));
+        verify(eventPublisher).publishEvent(StudentChangedEvent.created(studentResponse1));
     }
 
     @Test
@@ -172,31 +268,34 @@ class StudentServiceImplTest {
         // Given
         Long studentId = 1L;
         StudentRequest updateRequest = new StudentRequest( Level.ENGINEER,"updatedusername");
-        Student updatedStudent = Student.builder()
-                .id(studentId)
-                .username("updatedusername")
-                .level(Level.ENGINEER)
-                .build();
-        StudentResponse updatedResponse = new StudentResponse(studentId, "updatedusername", Level.ENGINEER);
+        StudentResponse updatedResponse = new StudentResponse(studentId, "updatedusername", Level.ENGINEER, 1L);
 
-        when(studentRepository.findById(studentId)).thenReturn(Optional.of(student1));
-        when(studentRepository.findByUsername(updateRequest.username())).thenReturn(Optional.empty());
-        doNothing().when(studentMapper).updateEntity(student1, updateRequest);
-        when(studentRepository.save(student1)).thenReturn(updatedStudent);
-        when(studentMapper.toResponse(updatedStudent)).thenReturn(updatedResponse);
+        when(studentJdbcRepository.update(studentId, "updatedusername", Level.ENGINEER, null))
+                .thenReturn(Optional.of(new VersionedUpdate(Level.BACHELOR, 1L, true)));
 
         // When
-        StudentResponse result = studentService.updateStudent(studentId, updateRequest);
+        StudentResponse result = studentService.updateStudent(studentId, updateRequest, null);
 
         // Then
-        assertThat(result).isNotNull();
-        assertThat(result.username()).isEqualTo("updatedusername");
-        assertThat(result.level()).isEqualTo(Level.ENGINEER);
-        verify(studentRepository).findById(studentId);
-        verify(studentRepository).findByUsername(updateRequest.username());
-        verify(studentMapper).updateEntity(student1, updateRequest);
-        verify(studentRepository).save(student1);
-        verify(studentMapper).toResponse(updatedStudent);
+        assertThat(result).isEqualTo(updatedResponse);
+        verify(studentJdbcRepository).update(studentId, "updatedusername", Level.ENGINEER, null);
+        verify(studentRepository, never()).findById(anyLong());
+        verify(studentRepository, never()).save(any(Student.class));
+        verify(eventPublisher).publishEvent(StudentChangedEvent.updated(updatedResponse, Level.BACHELOR));
+    }
+
+    @Test
+    @DisplayName("Should reject an update whose If-Match version is stale")
+    void updateStudent_StaleVersion_ThrowsException() {
+        // Given
+        when(studentJdbcRepository.update(1L, "student1", Level.BACHELOR, List.of(2L)))
+                .thenReturn(Optional.of(new VersionedUpdate(Level.BACHELOR, 3L, false)));
+
+        // When & Then
+        assertThatThrownBy(() -> studentService.updateStudent(1L, studentRequest, List.of(2L)))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("version 3");
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -204,16 +303,15 @@ class StudentServiceImplTest {
     void updateStudent_StudentNotFound_ThrowsException() {
         // Given
         Long studentId = 999L;
-        when(studentRepository.findById(studentId)).thenReturn(Optional.empty());
+        when(studentJdbcRepository.update(studentId, studentRequest.username(), studentRequest.level(), null)).thenReturn(Optional.empty());
 
         // When & Then
-        assertThatThrownBy(() -> studentService.updateStudent(studentId, studentRequest))
+        assertThatThrownBy(() -> studentService.updateStudent(studentId, studentRequest, null))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Student not found with id: " + studentId);
 
-        verify(studentRepository).findById(studentId);
-        verify(studentRepository, never()).findByUsername(anyString());
-        verify(studentMapper, never()).updateEntity(any(), any());
+        verify(studentMapper, never()).toResponse(any(Student.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -222,18 +320,16 @@ class StudentServiceImplTest {
         // Given
         Long studentId = 1L;
         StudentRequest updateRequest = new StudentRequest( Level.BACHELOR,"student2");
-
-        when(studentRepository.findById(studentId)).thenReturn(Optional.of(student1));
-        when(studentRepository.findByUsername(updateRequest.username())).thenReturn(Optional.of(student2));
+        when(studentJdbcRepository.update(studentId, "student2", Level.BACHELOR, null)).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLException("duplicate key value violates unique constraint", "23505")));
 
         // When & Then
-        assertThatThrownBy(() -> studentService.updateStudent(studentId, updateRequest))
+        assertThatThrownBy(() -> studentService.updateStudent(studentId, updateRequest, null))
                 .isInstanceOf(DuplicateResourceException.class)
                 .hasMessageContaining("Student with username '" + updateRequest.username() + "' already exists");
 
-        verify(studentRepository).findById(studentId);
-        verify(studentRepository).findByUsername(updateRequest.username());
-        verify(studentMapper, never()).updateEntity(any(), any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -242,29 +338,19 @@ class StudentServiceImplTest {
         // Given
         Long studentId = 1L;
         StudentRequest updateRequest = new StudentRequest(Level.MASTER,"student1" );
-        Student updatedStudent = Student.builder()
-                .id(studentId)
-                .username("student1")
-                .level(Level.MASTER)
-                .build();
-        StudentResponse updatedResponse = new StudentResponse(studentId, "student1", Level.MASTER);
 
-        when(studentRepository.findById(studentId)).thenReturn(Optional.of(student1));
-        when(studentRepository.findByUsername(updateRequest.username())).thenReturn(Optional.of(student1));
-        doNothing().when(studentMapper).updateEntity(student1, updateRequest);
-        when(studentRepository.save(student1)).thenReturn(updatedStudent);
-        when(studentMapper.toResponse(updatedStudent)).thenReturn(updatedResponse);
+        when(studentJdbcRepository.update(studentId, "student1", Level.MASTER, null))
+                .thenReturn(Optional.of(new VersionedUpdate(Level.BACHELOR, 1L, true)));
 
         // When
-        StudentResponse result = studentService.updateStudent(studentId, updateRequest);
+        StudentResponse result = studentService.updateStudent(studentId, updateRequest, null);
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result.username()).isEqualTo("student1");
         assertThat(result.level()).isEqualTo(Level.MASTER);
-        verify(studentRepository).findById(studentId);
-        verify(studentRepository).findByUsername(updateRequest.username());
-        verify(studentMapper).updateEntity(student1, updateRequest);
+        assertThat(result.version()).isEqualTo(1L);
+        verify(studentJdbcRepository).update(studentId, "student1", Level.MASTER, null);
     }
 
     @Test
@@ -272,15 +358,16 @@ class StudentServiceImplTest {
     void deleteStudent_Success() {
         // Given
         Long studentId = 1L;
-        when(studentRepository.existsById(studentId)).thenReturn(true);
-        doNothing().when(studentRepository).deleteById(studentId);
+        when(studentJdbcRepository.delete(studentId)).thenReturn(Optional.of(Level.BACHELOR));
 
         // When
         studentService.deleteStudent(studentId);
 
         // Then
-        verify(studentRepository).existsById(studentId);
-        verify(studentRepository).deleteById(studentId);
+        verify(studentJdbcRepository).delete(studentId);
+        verify(studentRepository, never()).existsById(anyLong());
+        verify(studentRepository, never()).deleteById(anyLong());
+        verify(eventPublisher).publishEvent(StudentChangedEvent.deleted(studentId, Level.BACHELOR));
     }
 
     @Test
@@ -288,15 +375,15 @@ class StudentServiceImplTest {
     void deleteStudent_StudentNotFound_ThrowsException() {
         // Given
         Long studentId = 999L;
-        when(studentRepository.existsById(studentId)).thenReturn(false);
+        when(studentJdbcRepository.delete(studentId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> studentService.deleteStudent(studentId))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Student not found with id: " + studentId);
 
-        verify(studentRepository).existsById(studentId);
-        verify(studentRepository, never()).deleteById(anyLong());
+        verify(studentJdbcRepository).delete(studentId);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -304,12 +391,10 @@ class StudentServiceImplTest {
     void searchStudents_Success() {
         // Given
         String searchTerm = "student";
-        List<Student> students = Arrays.asList(student1, student2);
-        Page<Student> studentPage = new PageImpl<>(students, pageable, students.size());
+        List<StudentResponse> students = Arrays.asList(studentResponse1, studentResponse2);
+        Page<StudentResponse> studentPage = new PageImpl<>(students, pageable, students.size());
 
         when(studentRepository.searchByUsernameOrId(searchTerm, pageable)).thenReturn(studentPage);
-        when(studentMapper.toResponse(student1)).thenReturn(studentResponse1);
-        when(studentMapper.toResponse(student2)).thenReturn(studentResponse2);
 
         // When
         Page<StudentResponse> result = studentService.searchStudents(searchTerm, pageable);
@@ -319,7 +404,40 @@ class StudentServiceImplTest {
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getTotalElements()).isEqualTo(2);
         verify(studentRepository).searchByUsernameOrId(searchTerm, pageable);
-        verify(studentMapper, times(2)).toResponse(any(Student.class));
+    }
+
+    @Test
+    @DisplayName("Should escape LIKE metacharacters in the search term")
+    void searchStudents_Wildcards_Escaped() {
+        // Given
+        Page<StudentResponse> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+        when(studentRepository.searchByUsernameOrId("a!_b!%c!!", pageable)).thenReturn(emptyPage);
+
+        // When
+        Page<StudentResponse> result = studentService.searchStudents("a_b%c!", pageable);
+
+        // Then
+        assertThat(result.getContent()).isEmpty();
+        verify(studentRepository).searchByUsernameOrId("a!_b!%c!!", pageable);
+    }
+
+    @Test
+    @DisplayName("Should serve search from the index once it is ready")
+    void searchStudents_IndexReady_UsesIndex() {
+        // Given
+        String searchTerm = "student";
+        Page<StudentResponse> indexPage = new PageImpl<>(List.of(studentResponse1, studentResponse2), pageable, 2);
+
+        when(studentSearchIndex.isReady()).thenReturn(true);
+        when(studentSearchIndex.search(searchTerm, pageable)).thenReturn(indexPage);
+
+        // When
+        Page<StudentResponse> result = studentService.searchStudents(searchTerm, pageable);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(studentResponse1, studentResponse2);
+        verify(studentSearchIndex).search(searchTerm, pageable);
+        verify(studentRepository, never()).searchByUsernameOrId(anyString(), any(Pageable.class));
     }
 
     @Test
@@ -327,7 +445,7 @@ class StudentServiceImplTest {
     void searchStudents_NoResults_ReturnsEmptyPage() {
         // Given
         String searchTerm = "nonexistent";
-        Page<Student> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+        Page<StudentResponse> emptyPage = new PageImpl<>(List.of(), pageable, 0);
 
         when(studentRepository.searchByUsernameOrId(searchTerm, pageable)).thenReturn(emptyPage);
 
@@ -339,7 +457,6 @@ class StudentServiceImplTest {
         assertThat(result.getContent()).isEmpty();
         assertThat(result.getTotalElements()).isZero();
         verify(studentRepository).searchByUsernameOrId(searchTerm, pageable);
-        verify(studentMapper, never()).toResponse(any(Student.class));
     }
 
     @Test
@@ -347,11 +464,10 @@ class StudentServiceImplTest {
     void getStudentsByLevel_Success() {
         // Given
         Level level = Level.BACHELOR;
-        List<Student> students = List.of(student1);
-        Page<Student> studentPage = new PageImpl<>(students, pageable, students.size());
+        List<StudentResponse> students = List.of(studentResponse1);
+        Page<StudentResponse> studentPage = new PageImpl<>(students, pageable, students.size());
 
         when(studentRepository.findByLevel(level, pageable)).thenReturn(studentPage);
-        when(studentMapper.toResponse(student1)).thenReturn(studentResponse1);
 
         // When
         Page<StudentResponse> result = studentService.getStudentsByLevel(level, pageable);
@@ -361,7 +477,6 @@ class StudentServiceImplTest {
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().getFirst().level()).isEqualTo(Level.BACHELOR);
         verify(studentRepository).findByLevel(level, pageable);
-        verify(studentMapper).toResponse(student1);
     }
 
     @Test
@@ -369,7 +484,7 @@ class StudentServiceImplTest {
     void getStudentsByLevel_NoResults_ReturnsEmptyPage() {
         // Given
         Level level = Level.DOCTORATE;
-        Page<Student> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+        Page<StudentResponse> emptyPage = new PageImpl<>(List.of(), pageable, 0);
 
         when(studentRepository.findByLevel(level, pageable)).thenReturn(emptyPage);
 
@@ -381,7 +496,6 @@ class StudentServiceImplTest {
         assertThat(result.getContent()).isEmpty();
         assertThat(result.getTotalElements()).isZero();
         verify(studentRepository).findByLevel(level, pageable);
-        verify(studentMapper, never()).toResponse(any(Student.class));
     }
 
     @Test
@@ -389,11 +503,10 @@ class StudentServiceImplTest {
     void getAllStudents_Pagination_Success() {
         // Given
         Pageable customPageable = PageRequest.of(1, 5);
-        List<Student> students = List.of(student1);
-        Page<Student> studentPage = new PageImpl<>(students, customPageable, 10);
+        List<StudentResponse> students = List.of(studentResponse1);
+        Page<StudentResponse> studentPage = new PageImpl<>(students, customPageable, 10);
 
-        when(studentRepository.findAll(customPageable)).thenReturn(studentPage);
-        when(studentMapper.toResponse(student1)).thenReturn(studentResponse1);
+        when(studentRepository.findResponsesBy(customPageable)).thenReturn(studentPage);
 
         // When
         Page<StudentResponse> result = studentService.getAllStudents(customPageable);
@@ -403,7 +516,250 @@ class StudentServiceImplTest {
         assertThat(result.getNumber()).isEqualTo(1);
         assertThat(result.getSize()).isEqualTo(5);
         assertThat(result.getTotalElements()).isEqualTo(10);
-        verify(studentRepository).findAll(customPageable);
+        verify(studentRepository).findResponsesBy(customPageable);
     }
-}
 
+    @Test
+    @DisplayName("Should return first cursor page with a next cursor when more rows exist")
+    void getStudentsAfter_FirstPage_ReturnsNextCursor() {
+        // Given
+        Pageable limit = PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "id"));
+        when(studentRepository.findAllBy(limit)).thenReturn(List.of(studentResponse1, studentResponse2));
+
+        // When
+        CursorPage<StudentResponse> result = studentService.getStudentsAfter(null, 1, "id", Sort.Direction.ASC);
+
+        // Then
+        assertThat(result.content()).containsExactly(studentResponse1);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextCursor()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("Should seek past the cursor instead of using an offset")
+    void getStudentsAfter_WithCursor_SeeksById() {
+        // Given
+        Pageable limit = PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "id"));
+        when(studentRepository.findAllBy(limit)).thenReturn(List.of(studentResponse1, studentResponse2));
+        String cursor = studentService.getStudentsAfter(null, 1, "id", Sort.Direction.ASC).nextCursor();
+
+        when(studentRepository.findByIdGreaterThan(1L, limit)).thenReturn(List.of(studentResponse2));
+
+        // When
+        CursorPage<StudentResponse> result = studentService.getStudentsAfter(cursor, 1, "id", Sort.Direction.ASC);
+
+        // Then
+        assertThat(result.content()).containsExactly(studentResponse2);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+        verify(studentRepository).findByIdGreaterThan(1L, limit);
+    }
+
+    @Test
+    @DisplayName("Should seek by username within a level")
+    void getStudentsByLevelAfter_WithCursor_SeeksByUsername() {
+        // Given
+        Pageable limit = PageRequest.of(0, 11, Sort.by(Sort.Direction.DESC, "username"));
+        when(studentRepository.findAllByLevel(Level.BACHELOR, limit)).thenReturn(List.of(studentResponse1));
+        CursorPage<StudentResponse> first = studentService.getStudentsByLevelAfter(Level.BACHELOR, null, 10, "username", Sort.Direction.DESC);
+        assertThat(first.hasNext()).isFalse();
+
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("username:DESC:1:student1".getBytes());
+        when(studentRepository.findByLevelAndUsernameLessThan(Level.BACHELOR, "student1", limit)).thenReturn(List.of());
+
+        // When
+        CursorPage<StudentResponse> result = studentService.getStudentsByLevelAfter(Level.BACHELOR, cursor, 10, "username", Sort.Direction.DESC);
+
+        // Then
+        assertThat(result.content()).isEmpty();
+        verify(studentRepository).findByLevelAndUsernameLessThan(Level.BACHELOR, "student1", limit);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed or mismatched cursors")
+    void getStudentsAfter_InvalidCursor_ThrowsException() {
+        String idCursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("id:ASC:1:1".getBytes());
+
+        assertThatThrownBy(() -> studentService.getStudentsAfter("not-a-cursor", 10, "id", Sort.Direction.ASC))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> studentService.getStudentsAfter(idCursor, 10, "username", Sort.Direction.ASC))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> studentService.getStudentsAfter(null, 10, "level", Sort.Direction.ASC))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(studentRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject cursor page sizes outside the allowed range")
+    void getStudentsAfter_SizeOutOfRange_ThrowsException() {
+        assertThatThrownBy(() -> studentService.getStudentsAfter(null, 0, "id", Sort.Direction.ASC))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> studentService.getStudentsAfter(null, 1001, "id", Sort.Direction.ASC))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> studentService.getStudentsAfter(null, Integer.MAX_VALUE, "id", Sort.Direction.ASC))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(studentRepository);
+    }
+
+    @Test
+    @DisplayName("Should return a slice without counting")
+    void getAllStudentsSlice_Success() {
+        // Given
+        when(studentRepository.findSliceBy(pageable)).thenReturn(new SliceImpl<>(List.of(studentResponse1), pageable, true));
+
+        // When
+        Slice<StudentResponse> result = studentService.getAllStudentsSlice(pageable);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(studentResponse1);
+        assertThat(result.hasNext()).isTrue();
+        verify(studentRepository, never()).findResponsesBy(any(Pageable.class));
+        verify(studentRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Should use planner estimate for the total when more pages exist")
+    void getAllStudentsWithEstimatedTotal_HasNext_UsesEstimate() {
+        // Given
+        when(studentRepository.findSliceBy(pageable)).thenReturn(new SliceImpl<>(List.of(studentResponse1, studentResponse2), pageable, true));
+        when(studentRepository.estimateCount()).thenReturn(5000L);
+
+        // When
+        Page<StudentResponse> result = studentService.getAllStudentsWithEstimatedTotal(pageable);
+
+        // Then
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.getTotalElements()).isEqualTo(5000);
+        verify(studentRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Should fall back to an exact count when the table has no statistics yet")
+    void getAllStudentsWithEstimatedTotal_NoStatistics_Counts() {
+        // Given
+        when(studentRepository.findSliceBy(pageable)).thenReturn(new SliceImpl<>(List.of(studentResponse1), pageable, true));
+        when(studentRepository.estimateCount()).thenReturn(-1L);
+        when(studentRepository.count()).thenReturn(42L);
+
+        // When
+        Page<StudentResponse> result = studentService.getAllStudentsWithEstimatedTotal(pageable);
+
+        // Then
+        assertThat(result.getTotalElements()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("Should report an exact total on the last page without estimating")
+    void getStudentsByLevelWithEstimatedTotal_LastPage_IsExact() {
+        // Given
+        Pageable secondPage = PageRequest.of(1, 10);
+        when(studentRepository.findSliceByLevel(Level.BACHELOR, secondPage))
+                .thenReturn(new SliceImpl<>(List.of(studentResponse1), secondPage, false));
+
+        // When
+        Page<StudentResponse> result = studentService.getStudentsByLevelWithEstimatedTotal(Level.BACHELOR, secondPage);
+
+        // Then
+        assertThat(result.getTotalElements()).isEqualTo(11);
+        verify(studentRepository, never()).estimateCountByLevel(anyString());
+        verify(studentRepository, never()).countByLevel(any(Level.class));
+    }
+
+    @Test
+    @DisplayName("Should batch update levels by id and report missing ids")
+    void updateStudentsLevel_ByIds_ReportsOutcomes() {
+        // Given
+        StudentBatchUpdateRequest request = new StudentBatchUpdateRequest(List.of(1L, 2L, 999L, 1L), null, Level.MASTER);
+        StudentResponse updated1 = new StudentResponse(1L, "student1", Level.MASTER, 0L);
+        StudentResponse updated2 = new StudentResponse(2L, "student2", Level.MASTER, 0L);
+        when(studentJdbcRepository.updateLevelByIds(Set.of(1L, 2L, 999L), Level.MASTER)).thenReturn(List.of(
+                new StudentJdbcRepository.UpdatedStudent(updated1, Level.BACHELOR),
+                new StudentJdbcRepository.UpdatedStudent(updated2, Level.MASTER)));
+
+        // When
+        StudentBatchResult result = studentService.updateStudentsLevel(request);
+
+        // Then
+        assertThat(result.affected()).isEqualTo(2);
+        assertThat(result.notFound()).isEqualTo(1);
+        assertThat(result.outcomes()).containsExactly(
+                new StudentBatchOutcome(1L, StudentBatchOutcome.Status.UPDATED),
+                new StudentBatchOutcome(2L, StudentBatchOutcome.Status.UPDATED),
+                new StudentBatchOutcome(999L, StudentBatchOutcome.Status.NOT_FOUND));
+        verify(eventPublisher).publishEvent(StudentChangedEvent.updated(updated1, Level.BACHELOR));
+        verify(eventPublisher).publishEvent(StudentChangedEvent.updated(updated2, Level.MASTER));
+        verify(studentRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should batch delete the students matching a filter")
+    void deleteStudents_ByFilter_DeletesMatches() {
+        // Given
+        StudentFilter filter = new StudentFilter(Level.BACHELOR, "student");
+        when(studentJdbcRepository.deleteByFilter(filter)).thenReturn(List.of(studentResponse1));
+
+        // When
+        StudentBatchResult result = studentService.deleteStudents(new StudentBatchDeleteRequest(null, filter));
+
+        // Then
+        assertThat(result.affected()).isEqualTo(1);
+        assertThat(result.notFound()).isZero();
+        assertThat(result.outcomes()).containsExactly(new StudentBatchOutcome(1L, StudentBatchOutcome.Status.DELETED));
+        verify(eventPublisher).publishEvent(StudentChangedEvent.deleted(1L, Level.BACHELOR));
+    }
+
+    @Test
+    @DisplayName("Should reject batches with both ids and a filter, or with neither")
+    void deleteStudents_InvalidSelection_ThrowsException() {
+        // When & Then
+        assertThatThrownBy(() -> studentService.deleteStudents(
+                new StudentBatchDeleteRequest(List.of(1L), new StudentFilter(Level.BACHELOR, null))))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> studentService.deleteStudents(
+                new StudentBatchDeleteRequest(null, new StudentFilter(null, " "))))
+                .isInstanceOf(BadRequestException.class);
+
+        verifyNoInteractions(studentJdbcRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should serve statistics from the in-memory counters")
+    void getStatistics_Ready_ReadsCounters() {
+        // Given
+        StudentStatisticsResponse statistics = new StudentStatisticsResponse(
+                3, Map.of(Level.BACHELOR, 2L, Level.MASTER, 1L), Instant.now());
+        when(studentStatistics.isReady()).thenReturn(true);
+        when(studentStatistics.get()).thenReturn(statistics);
+
+        // When
+        StudentStatisticsResponse result = studentService.getStatistics();
+
+        // Then
+        assertThat(result).isSameAs(statistics);
+        verify(studentStatistics, never()).reconcile();
+        verifyNoInteractions(studentRepository);
+    }
+
+    @Test
+    @DisplayName("Should seed the counters when statistics are read before startup reconciliation")
+    void getStatistics_NotReady_Reconciles() {
+        // Given
+        when(studentStatistics.isReady()).thenReturn(false);
+
+        // When
+        studentService.getStatistics();
+
+        // Then
+        verify(studentStatistics).reconcile();
+        verify(studentStatistics).get();
+    }
+
+    /** Makes the mocked cache behave like an empty read-through cache. */
+    @SuppressWarnings("unchecked")
+    private void readThroughCache() {
+        when(studentCache.get(anyLong(), any())).thenAnswer(invocation ->
+                invocation.getArgument(1, Function.class).apply(invocation.getArgument(0)));
+    }
+}
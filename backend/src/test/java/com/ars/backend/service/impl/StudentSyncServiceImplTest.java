@@ -0,0 +1,141 @@
+package com.ars.backend.service.impl;
+
+import com.ars.backend.config.StudentSyncProperties;
+import com.ars.backend.dto.StudentChange;
+import com.ars.backend.dto.StudentChangesResponse;
+import com.ars.backend.dto.StudentResponse;
+import com.ars.backend.enumeration.Level;
+import com.ars.backend.exception.BadRequestException;
+import com.ars.backend.exception.SyncTokenExpiredException;
+import com.ars.backend.repository.StudentChangeRepository;
+import com.ars.backend.repository.StudentChangeRepository.ChangeRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudentSyncService Tests")
+class StudentSyncServiceImplTest {
+
+    @Mock
+    private StudentChangeRepository studentChangeRepository;
+
+    private StudentSyncServiceImpl syncService;
+
+    @BeforeEach
+    void setUp() {
+        StudentSyncProperties properties = new StudentSyncProperties();
+        properties.setMaximumPageSize(100);
+        syncService = new StudentSyncServiceImpl(studentChangeRepository, properties);
+    }
+
+    @Test
+    @DisplayName("Should start from the beginning of the change log without a token")
+    void getChangesSince_NoToken_StartsAtBeginning() {
+        // Given
+        when(studentChangeRepository.findChangesAfter(0, 0, 3)).thenReturn(List.of(upserted(100, 1, 1L), deleted(101, 2, 2L)));
+
+        // When
+        StudentChangesResponse response = syncService.getChangesSince(null, 2);
+
+        // Then
+        assertThat(response.changes()).extracting(StudentChange::type)
+                .containsExactly(StudentChange.Type.UPSERTED, StudentChange.Type.DELETED);
+        assertThat(response.hasMore()).isFalse();
+        assertThat(ChangeToken.decode(response.nextToken())).isEqualTo(new ChangeToken(101, 2, 0));
+    }
+
+    @Test
+    @DisplayName("Should page after the token and report when more changes follow")
+    void getChangesSince_Token_PagesAfterPosition() {
+        // Given
+        String token = new ChangeToken(100, 1, 0).encode();
+        when(studentChangeRepository.findChangesAfter(100, 1, 3))
+                .thenReturn(List.of(upserted(100, 5, 1L), upserted(102, 6, 2L), upserted(103, 7, 3L)));
+
+        // When
+        StudentChangesResponse response = syncService.getChangesSince(token, 2);
+
+        // Then
+        assertThat(response.changes()).extracting(StudentChange::id).containsExactly(1L, 2L);
+        assertThat(response.hasMore()).isTrue();
+        assertThat(ChangeToken.decode(response.nextToken())).isEqualTo(new ChangeToken(102, 6, 0));
+    }
+
+    @Test
+    @DisplayName("Should hand back the same token when nothing changed")
+    void getChangesSince_NoChanges_KeepsToken() {
+        // Given
+        String token = new ChangeToken(100, 1, 0).encode();
+        when(studentChangeRepository.findChangesAfter(100, 1, 11)).thenReturn(List.of());
+
+        // When
+        StudentChangesResponse response = syncService.getChangesSince(token, 10);
+
+        // Then
+        assertThat(response.changes()).isEmpty();
+        assertThat(response.nextToken()).isEqualTo(token);
+    }
+
+    @Test
+    @DisplayName("Should reject a token when tombstones after its position were purged since it was issued")
+    void getChangesSince_PurgedSinceIssued_Throws() {
+        // Given
+        String token = new ChangeToken(100, 1, 0).encode();
+        when(studentChangeRepository.purgedHorizon()).thenReturn(150L);
+
+        // When & Then
+        assertThatThrownBy(() -> syncService.getChangesSince(token, 10))
+                .isInstanceOf(SyncTokenExpiredException.class);
+        verify(studentChangeRepository, never()).findChangesAfter(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should accept a token behind the horizon it was issued under")
+    void getChangesSince_IssuedUnderCurrentHorizon_Continues() {
+        // Given: a full sync paging through old rows after a purge
+        String token = new ChangeToken(0, 1, 150).encode();
+        when(studentChangeRepository.purgedHorizon()).thenReturn(150L);
+        when(studentChangeRepository.findChangesAfter(0, 1, 11)).thenReturn(List.of(upserted(0, 2, 2L)));
+
+        // When
+        StudentChangesResponse response = syncService.getChangesSince(token, 10);
+
+        // Then
+        assertThat(response.changes()).extracting(StudentChange::id).containsExactly(2L);
+        assertThat(ChangeToken.decode(response.nextToken())).isEqualTo(new ChangeToken(0, 2, 150));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed tokens and out-of-range page sizes")
+    void getChangesSince_InvalidInput_Throws() {
+        assertThatThrownBy(() -> syncService.getChangesSince("not-a-token", 10))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> syncService.getChangesSince(null, 101))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(studentChangeRepository);
+    }
+
+    private static ChangeRow upserted(long xid, long seq, Long id) {
+        StudentResponse student = new StudentResponse(id, "student" + id, Level.BACHELOR, 0L);
+        return new ChangeRow(xid, seq, new StudentChange(StudentChange.Type.UPSERTED, id, student));
+    }
+
+    private static ChangeRow deleted(long xid, long seq, Long id) {
+        return new ChangeRow(xid, seq, new StudentChange(StudentChange.Type.DELETED, id, null));
+    }
+}
@@ -0,0 +1,111 @@
+package com.ars.backend.statistics;
+
+import com.ars.backend.dto.LevelCount;
+import com.ars.backend.dto.StudentResponse;
+import com.ars.backend.dto.StudentStatisticsResponse;
+import com.ars.backend.enumeration.Level;
+import com.ars.backend.event.StudentChangedEvent;
+import com.ars.backend.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StudentStatistics Tests")
+class StudentStatisticsTest {
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    private StudentStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new StudentStatistics(studentRepository);
+    }
+
+    @Test
+    @DisplayName("Should seed every level from one grouped count")
+    void reconcile_SeedsCounters() {
+        // Given
+        when(studentRepository.countGroupedByLevel()).thenReturn(List.of(
+                new LevelCount(Level.BACHELOR, 5), new LevelCount(Level.MASTER, 2)));
+
+        // When
+        statistics.reconcile();
+        StudentStatisticsResponse result = statistics.get();
+
+        // Then
+        assertThat(statistics.isReady()).isTrue();
+        assertThat(result.total()).isEqualTo(7);
+        assertThat(result.byLevel())
+                .containsEntry(Level.BACHELOR, 5L)
+                .containsEntry(Level.MASTER, 2L)
+                .containsEntry(Level.ENGINEER, 0L)
+                .containsEntry(Level.DOCTORATE, 0L);
+        assertThat(result.reconciledAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should move counters with create, update and delete events")
+    void onStudentChanged_AdjustsCounters() {
+        // When
+        statistics.onStudentChanged(StudentChangedEvent.created(new StudentResponse(1L, "alice", Level.BACHELOR, 0L)));
+        statistics.onStudentChanged(StudentChangedEvent.created(new StudentResponse(2L, "bob", Level.BACHELOR, 0L)));
+        statistics.onStudentChanged(StudentChangedEvent.updated(new StudentResponse(1L, "alice", Level.MASTER, 0L), Level.BACHELOR));
+        statistics.onStudentChanged(StudentChangedEvent.updated(new StudentResponse(2L, "bobby", Level.BACHELOR, 0L), Level.BACHELOR));
+        statistics.onStudentChanged(StudentChangedEvent.deleted(2L, Level.BACHELOR));
+
+        // Then
+        StudentStatisticsResponse result = statistics.get();
+        assertThat(result.total()).isEqualTo(1);
+        assertThat(result.byLevel())
+                .containsEntry(Level.BACHELOR, 0L)
+                .containsEntry(Level.MASTER, 1L);
+    }
+
+    @Test
+    @DisplayName("Should correct drifted counters on reconcile")
+    void reconcile_CorrectsDrift() {
+        // Given
+        statistics.onStudentChanged(StudentChangedEvent.created(new StudentResponse(1L, "alice", Level.ENGINEER, 0L)));
+        statistics.onStudentChanged(StudentChangedEvent.created(new StudentResponse(2L, "bob", Level.ENGINEER, 0L)));
+        when(studentRepository.countGroupedByLevel()).thenReturn(List.of(new LevelCount(Level.ENGINEER, 1)));
+
+        // When
+        statistics.reconcile();
+
+        // Then
+        assertThat(statistics.get().byLevel()).containsEntry(Level.ENGINEER, 1L);
+        assertThat(statistics.get().total()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should hold back events until the reconcile query has been applied")
+    void reconcile_ConcurrentEvent_AppliedAfterwards() throws Exception {
+        // Given: an event arrives while the grouped count runs
+        Thread[] writer = new Thread[1];
+        when(studentRepository.countGroupedByLevel()).thenAnswer(invocation -> {
+            writer[0] = Thread.ofPlatform().start(() -> statistics.onStudentChanged(
+                    StudentChangedEvent.created(new StudentResponse(9L, "zoe", Level.BACHELOR, 0L))));
+            writer[0].join(100);
+            assertThat(writer[0].isAlive()).isTrue();
+            return List.of(new LevelCount(Level.BACHELOR, 5));
+        });
+
+        // When
+        statistics.reconcile();
+        writer[0].join(5000);
+
+        // Then
+        assertThat(statistics.get().byLevel()).containsEntry(Level.BACHELOR, 6L);
+    }
+}
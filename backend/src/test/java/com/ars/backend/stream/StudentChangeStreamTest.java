@@ -0,0 +1,251 @@
+package com.ars.backend.stream;
+
+import com.ars.backend.config.StudentStreamProperties;
+import com.ars.backend.dto.StudentResponse;
+import com.ars.backend.enumeration.Level;
+import com.ars.backend.event.StudentChangedEvent;
+import com.ars.backend.exception.TooManyRequestsException;
+import com.ars.backend.security.TokenRevocationList;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("StudentChangeStream Tests")
+class StudentChangeStreamTest {
+
+    private static final Instant VALID_UNTIL = Instant.now().plus(Duration.ofHours(1));
+
+    private StudentStreamProperties properties;
+    private TokenRevocationList tokenRevocationList;
+    private SimpleMeterRegistry meterRegistry;
+    private List<CapturingEmitter> emitters;
+    private CountDownLatch sendGate;
+    private StudentChangeStream stream;
+
+    @BeforeEach
+    void setUp() {
+        properties = new StudentStreamProperties();
+        properties.setBufferSize(4);
+        tokenRevocationList = mock(TokenRevocationList.class);
+        meterRegistry = new SimpleMeterRegistry();
+        emitters = Collections.synchronizedList(new ArrayList<>());
+        sendGate = new CountDownLatch(0);
+        stream = new StudentChangeStream(properties, tokenRevocationList, meterRegistry) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                CapturingEmitter emitter = new CapturingEmitter(timeoutMillis, sendGate);
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        stream.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stream.stop();
+    }
+
+    @Test
+    @DisplayName("Should only push changes to or from the subscribed levels")
+    void onStudentChanged_FiltersByLevel() throws Exception {
+        // Given
+        stream.subscribe(Set.of(Level.MASTER), "jti", VALID_UNTIL);
+        stream.subscribe(Set.of(), "jti", VALID_UNTIL);
+        StudentResponse bachelor = new StudentResponse(1L, "alice", Level.BACHELOR, 0L);
+        StudentResponse master = new StudentResponse(2L, "bob", Level.MASTER, 1L);
+
+        // When
+        stream.onStudentChanged(StudentChangedEvent.created(bachelor));
+        stream.onStudentChanged(StudentChangedEvent.updated(master, Level.BACHELOR));
+        stream.onStudentChanged(StudentChangedEvent.deleted(3L, Level.MASTER));
+
+        // Then
+        assertThat(awaitEvents(emitters.get(0), 2)).containsExactly("updated", "deleted");
+        assertThat(awaitEvents(emitters.get(1), 3)).containsExactly("created", "updated", "deleted");
+    }
+
+    @Test
+    @DisplayName("Should disconnect a subscriber whose buffer overflows without affecting the others")
+    void onStudentChanged_SlowSubscriber_Dropped() throws Exception {
+        // Given: the first subscriber's sends block, so its queue fills up
+        sendGate = new CountDownLatch(1);
+        stream.subscribe(Set.of(), "jti", VALID_UNTIL);
+        sendGate = new CountDownLatch(0);
+        stream.subscribe(Set.of(), "jti", VALID_UNTIL);
+        StudentResponse student = new StudentResponse(1L, "alice", Level.BACHELOR, 0L);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            stream.onStudentChanged(StudentChangedEvent.created(student));
+        }
+
+        // Then
+        assertThat(stream.size()).isEqualTo(1);
+        assertThat(emitters.get(0).completed).isTrue();
+        assertThat(meterRegistry.get("students.stream.dropped").counter().count()).isEqualTo(1);
+        assertThat(awaitEvents(emitters.get(1), 10)).hasSize(10);
+        emitters.get(0).gate.countDown();
+    }
+
+    @Test
+    @DisplayName("Should close streams whose token was revoked or has expired on the next heartbeat")
+    void heartbeat_RevokedOrExpiredToken_ClosesStream() throws Exception {
+        // Given
+        stream.stop();
+        properties.setHeartbeatInterval(Duration.ofMillis(20));
+        stream.start();
+        when(tokenRevocationList.isRevoked("revoked")).thenReturn(true);
+        stream.subscribe(Set.of(), "valid", VALID_UNTIL);
+        stream.subscribe(Set.of(), "revoked", VALID_UNTIL);
+        stream.subscribe(Set.of(), "expiring", Instant.now().plusMillis(50));
+
+        // When
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (stream.size() > 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        // Then
+        assertThat(stream.size()).isEqualTo(1);
+        assertThat(emitters).extracting(emitter -> emitter.completed).containsExactly(false, true, true);
+    }
+
+    @Test
+    @DisplayName("Should never open more streams than the limit under concurrent subscribes")
+    void subscribe_Concurrent_RespectsLimit() throws Exception {
+        // Given
+        properties.setMaximumSubscribers(5);
+        stream.stop();
+        stream = new StudentChangeStream(properties, tokenRevocationList, meterRegistry) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                return new CapturingEmitter(timeoutMillis, sendGate);
+            }
+        };
+        stream.start();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch go = new CountDownLatch(1);
+
+        // When
+        List<Future<?>> attempts = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 50; i++) {
+                attempts.add(executor.submit(() -> {
+                    go.await();
+                    try {
+                        stream.subscribe(Set.of(), "jti", VALID_UNTIL);
+                    } catch (TooManyRequestsException ex) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            go.countDown();
+            for (Future<?> attempt : attempts) {
+                attempt.get(5, TimeUnit.SECONDS);
+            }
+        }
+
+        // Then
+        assertThat(stream.size()).isEqualTo(5);
+        assertThat(rejected.get()).isEqualTo(45);
+    }
+
+    @Test
+    @DisplayName("Should complete every stream on stop")
+    void stop_CompletesStreams() {
+        // Given
+        stream.subscribe(Set.of(), "jti", VALID_UNTIL);
+
+        // When
+        stream.stop();
+
+        // Then
+        assertThat(stream.size()).isZero();
+        assertThat(stream.isRunning()).isFalse();
+        assertThat(emitters.getFirst().completed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should end a stream opened after stop straight away")
+    void subscribe_AfterStop_CompletesImmediately() {
+        // Given
+        stream.stop();
+
+        // When
+        stream.subscribe(Set.of(), "jti", VALID_UNTIL);
+
+        // Then
+        assertThat(emitters.getFirst().completed).isTrue();
+        assertThat(stream.size()).isZero();
+    }
+
+    private static List<String> awaitEvents(CapturingEmitter emitter, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (emitter.eventNames().size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        return emitter.eventNames();
+    }
+
+    private static final class CapturingEmitter extends SseEmitter {
+
+        private final CountDownLatch gate;
+        private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+        private volatile boolean completed;
+
+        CapturingEmitter(long timeout, CountDownLatch gate) {
+            super(timeout);
+            this.gate = gate;
+        }
+
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            sent.add(items.stream().map(item -> String.valueOf(item.getData())).collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        // Names of the change events sent so far, ignoring heartbeats
+        List<String> eventNames() {
+            synchronized (sent) {
+                return sent.stream()
+                        .filter(text -> text.startsWith("event:"))
+                        .map(text -> text.substring("event:".length(), text.indexOf('\n')))
+                        .toList();
+            }
+        }
+    }
+}